@@ -0,0 +1,103 @@
+package com.capstone.quicklendar.benchmark;
+
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 공모전 목록 응답 경로 마이크로벤치마크: Competition -> CompetitionDTO 변환, List<CompetitionDTO> JSON 직렬화
+//
+// JMH 소스셋(src/jmh/java)은 me.champeau.jmh Gradle 플러그인으로 컴파일
+//   plugins { id 'me.champeau.jmh' version '0.7.2' }
+//   jmh { resultFormat = 'JSON'; resultsFile = layout.buildDirectory.file("results/jmh/results.json") }
+// ./gradlew jmh 또는 JmhBenchmarks 실행 결과 JSON 을 커밋별로 보관해서 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompetitionDtoBenchmark {
+
+    private static final String IMAGE_BASE_URL = "http://localhost:8080/images/";
+
+    @Param({"1", "20", "100", "1000"})
+    public int size;
+
+    private List<Competition> competitions;
+    private List<CompetitionDTO> dtos;
+    private ObjectWriter listWriter;
+
+    @Setup
+    public void setUp() {
+        competitions = new ArrayList<>(size);
+        LocalDate base = LocalDate.of(2024, 3, 1);
+        for (int i = 0; i < size; i++) {
+            Competition competition = new Competition();
+            competition.setName("공모전 " + i);
+            competition.setDescription("공모전 설명입니다. 참가 대상, 일정, 시상 내역 등 " + i);
+            competition.setStartDate(base.plusDays(i % 90));
+            competition.setEndDate(base.plusDays(i % 90 + 30));
+            competition.setRequestStartDate(base.plusDays(i % 60));
+            competition.setRequestEndDate(base.plusDays(i % 60 + 14));
+            competition.setRequestPath("https://example.com/competitions/" + i);
+            competition.setLocation("서울");
+            competition.setSupport("상금 " + (i % 10) + "00만원");
+            competition.setHost("주최 " + (i % 20));
+            competition.setCategory(Category.values()[i % Category.values().length]);
+            competition.setCompetitionType(CompetitionType.values()[i % CompetitionType.values().length]);
+            competition.setImage(String.format("%064x.jpg", i));
+            competitions.add(competition);
+        }
+        dtos = toDtos();
+
+        // 애플리케이션과 같은 설정(JavaTimeModule, 날짜 문자열)으로 만든 ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(TypeFactory.defaultInstance().constructCollectionType(List.class, CompetitionDTO.class));
+    }
+
+    @Benchmark
+    public List<CompetitionDTO> dtoConstruction() {
+        return toDtos();
+    }
+
+    @Benchmark
+    public byte[] serializeListToBytes() throws Exception {
+        return listWriter.writeValueAsBytes(dtos);
+    }
+
+    // 응답 스트림에 바로 쓰는 경우 (중간 byte[] 없음)
+    @Benchmark
+    public void serializeListToStream() throws Exception {
+        listWriter.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+
+    private List<CompetitionDTO> toDtos() {
+        List<CompetitionDTO> result = new ArrayList<>(competitions.size());
+        for (Competition competition : competitions) {
+            result.add(new CompetitionDTO(competition, IMAGE_BASE_URL));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package com.capstone.quicklendar.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+// JMH 벤치마크 실행기: 결과를 JSON 파일로 남겨서 커밋별로 비교 (예: jmh.morethan.io 또는 jmh-visualizer)
+// 각 벤치마크의 fork/warmup/measurement 설정은 클래스의 어노테이션을 그대로 사용
+//
+// 사용법: JmhBenchmarks [벤치마크 이름 정규식...] [-Djmh.result=build/results/jmh/results.json]
+// 예: JmhBenchmarks JwtBenchmark -Djmh.result=build/results/jmh/$(git rev-parse --short HEAD).json
+public final class JmhBenchmarks {
+
+    private JmhBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        File result = new File(System.getProperty("jmh.result", "build/results/jmh/results.json"));
+        File directory = result.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("결과 디렉터리를 만들 수 없습니다: " + directory);
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath());
+        // 정규식을 주지 않으면 모든 벤치마크 실행
+        for (String include : args) {
+            options.include(include);
+        }
+        new Runner(options.build()).run();
+    }
+}
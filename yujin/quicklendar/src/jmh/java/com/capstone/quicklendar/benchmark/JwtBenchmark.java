@@ -0,0 +1,112 @@
+package com.capstone.quicklendar.benchmark;
+
+import com.capstone.quicklendar.domain.user.User;
+import com.capstone.quicklendar.util.jwt.JwtTokenProvider;
+import com.capstone.quicklendar.util.jwt.TokenRevocationStore;
+import com.capstone.quicklendar.util.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// JWT 발급/검증 마이크로벤치마크
+// tokens: 한 번에 검증하는 서로 다른 토큰 수 (검증 결과 캐시 적중률에 영향)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    @Param({"1", "100", "10000"})
+    public int tokens;
+
+    private Path revocationFile;
+    private TokenRevocationStore revocationStore;
+    private JwtTokenProvider provider;
+    private String family;
+    private User user;
+    private String[] issued;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        revocationFile = Files.createTempFile("jmh-revoked-", ".log");
+        revocationStore = new TokenRevocationStore(revocationFile.toString(), 1 << 20, 3_600_000);
+        revocationStore.load();
+        provider = new JwtTokenProvider(SECRET, 3_600_000, 900_000, 1_209_600_000, 10_000, revocationStore);
+        family = provider.newFamily();
+        user = user(0);
+        issued = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            issued[i] = provider.createAccessToken(user(i), "ROLE_USER", family);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        revocationStore.close();
+        Files.deleteIfExists(revocationFile);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(user, "ROLE_USER", family);
+    }
+
+    @Benchmark
+    public void validateToken(Blackhole blackhole) {
+        for (String token : issued) {
+            blackhole.consume(provider.validateToken(token));
+        }
+    }
+
+    @Benchmark
+    public void getUsername(Blackhole blackhole) {
+        for (String token : issued) {
+            blackhole.consume(provider.getUsername(token));
+        }
+    }
+
+    // 기존 필터 경로: 검증 후 다시 파싱해서 subject 조회
+    @Benchmark
+    public void validateThenGetUsername(Blackhole blackhole) {
+        for (String token : issued) {
+            if (provider.validateToken(token)) {
+                blackhole.consume(provider.getUsername(token));
+            }
+        }
+    }
+
+    // 현재 필터 경로: 검증 결과 캐시 + 폐기 목록 확인
+    @Benchmark
+    public void verifyCachedAndCheckRevocation(Blackhole blackhole) {
+        for (String token : issued) {
+            VerifiedToken verified = provider.verify(token);
+            blackhole.consume(verified != null && !provider.isRevoked(verified));
+        }
+    }
+
+    private static User user(int i) {
+        User user = new User();
+        user.setId((long) i + 1);
+        user.setEmail("user" + i + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,83 @@
+package com.capstone.quicklendar.controller;
+
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.util.dto.CompetitionFormDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// CompetitionController 요청 처리 보조 메서드 마이크로벤치마크
+// (package-private 메서드를 호출하려고 controller 패키지에 둠)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompetitionRequestMappingBenchmark {
+
+    // 한 번에 처리하는 요청 수
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private CompetitionFormDTO[] forms;
+    private String[] categories;
+    private String[] competitionTypes;
+
+    @Setup
+    public void setUp() {
+        forms = new CompetitionFormDTO[size];
+        categories = new String[size];
+        competitionTypes = new String[size];
+        LocalDate base = LocalDate.of(2024, 3, 1);
+        for (int i = 0; i < size; i++) {
+            CompetitionFormDTO form = new CompetitionFormDTO();
+            form.setName("공모전 " + i);
+            form.setDescription("공모전 설명 " + i);
+            form.setStartDate(base.plusDays(i % 90));
+            form.setEndDate(base.plusDays(i % 90 + 30));
+            form.setRequestStartDate(base.plusDays(i % 60));
+            form.setRequestEndDate(base.plusDays(i % 60 + 14));
+            form.setRequestPath("https://example.com/competitions/" + i);
+            form.setLocation("서울");
+            form.setSupport("상금");
+            form.setHost("주최 " + (i % 20));
+            form.setCategory(Category.values()[i % Category.values().length]);
+            form.setCompetitionType(CompetitionType.values()[i % CompetitionType.values().length]);
+            forms[i] = form;
+            // 쿼리 파라미터는 대소문자가 섞여서 들어옴
+            String category = Category.values()[i % Category.values().length].name();
+            categories[i] = i % 2 == 0 ? category : category.toLowerCase();
+            competitionTypes[i] = CompetitionType.values()[i % CompetitionType.values().length].name().toLowerCase();
+        }
+    }
+
+    @Benchmark
+    public void mapFormDTOToEntity(Blackhole blackhole) {
+        for (CompetitionFormDTO form : forms) {
+            blackhole.consume(CompetitionController.mapFormDTOToEntity(form, "image.jpg"));
+        }
+    }
+
+    // Category.valueOf(toUpperCase()) 기반 파라미터 파싱
+    @Benchmark
+    public void parseFilterParameters(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(CompetitionController.parseCategory(categories[i]));
+            blackhole.consume(CompetitionController.parseCompetitionType(competitionTypes[i]));
+        }
+    }
+}
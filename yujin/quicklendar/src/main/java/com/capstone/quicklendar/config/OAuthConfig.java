@@ -3,6 +3,7 @@ package com.capstone.quicklendar.config;
 import com.capstone.quicklendar.repository.user.OAuthUserRepository;
 import com.capstone.quicklendar.repository.user.UserRepository;
 import com.capstone.quicklendar.service.user.CustomOAuth2UserService;
+import com.capstone.quicklendar.service.user.TokenVersionRegistry;
 import com.capstone.quicklendar.util.jwt.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -19,12 +20,15 @@ public class OAuthConfig {
     private final UserRepository userRepository;
     private final OAuthUserRepository oauthUserRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     @Autowired
-    public OAuthConfig(UserRepository userRepository, OAuthUserRepository oauthUserRepository, JwtTokenProvider jwtTokenProvider) {
+    public OAuthConfig(UserRepository userRepository, OAuthUserRepository oauthUserRepository, JwtTokenProvider jwtTokenProvider,
+                       TokenVersionRegistry tokenVersionRegistry) {
         this.userRepository = userRepository;
         this.oauthUserRepository = oauthUserRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     @Bean
@@ -34,6 +38,6 @@ public class OAuthConfig {
 
     @Bean
     public CustomOAuth2UserService customOAuth2UserService() {
-        return new CustomOAuth2UserService(userRepository, oauthUserRepository);
+        return new CustomOAuth2UserService(userRepository, oauthUserRepository, tokenVersionRegistry);
     }
 }
\ No newline at end of file
@@ -1,20 +1,21 @@
 package com.capstone.quicklendar.config;
 
 import com.capstone.quicklendar.domain.user.CustomOAuth2User;
+import com.capstone.quicklendar.service.user.AuthTokenService;
 import com.capstone.quicklendar.service.user.CustomOAuth2UserService;
 import com.capstone.quicklendar.service.user.CustomUserDetailsService;
+import com.capstone.quicklendar.service.user.TokenVersionRegistry;
 import com.capstone.quicklendar.util.jwt.JwtAuthenticationFilter;
 import com.capstone.quicklendar.util.jwt.JwtTokenProvider;
+import com.capstone.quicklendar.util.jwt.TokenPair;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.config.annotation.web.configurers.LogoutConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -23,37 +24,47 @@ public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuthTokenService authTokenService;
+    // database: 요청마다 사용자 정보를 (캐시를 거쳐) DB 에서 읽음, claims: 토큰 claims 로 사용자 정보를 만듦
+    private final String authMode;
 
-    public SecurityConfig(CustomOAuth2UserService customOAuth2UserService, JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(CustomOAuth2UserService customOAuth2UserService, JwtTokenProvider jwtTokenProvider,
+                          AuthTokenService authTokenService, @Value("${jwt.auth-mode:database}") String authMode) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.authTokenService = authTokenService;
+        this.authMode = authMode;
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomUserDetailsService customUserDetailsService) throws Exception {
-        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService);
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomUserDetailsService customUserDetailsService,
+                                                   TokenVersionRegistry tokenVersionRegistry) throws Exception {
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService,
+                tokenVersionRegistry, "claims".equalsIgnoreCase(authMode));
 
         http
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/", "/index", "/signup", "/login", "/join", "/resources/**", "/oauth2/**",
-                                "/competitions/**", "/images/**", "/upload/**").permitAll()
+                        .requestMatchers("/", "/index", "/signup", "/login", "/join", "/refresh", "/logout",
+                                "/resources/**", "/oauth2/**", "/competitions/**", "/images/**", "/upload/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .formLogin(AbstractHttpConfigurer::disable)
-                .logout(LogoutConfigurer::permitAll)
+                // 로그아웃은 UserController 에서 토큰 폐기로 처리
+                .logout(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2Login(oauth -> oauth
                         .authorizationEndpoint(endpoint -> endpoint.baseUri("/oauth2/authorization"))
                         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
                         .successHandler((request, response, authentication) -> {
                             CustomOAuth2User user = (CustomOAuth2User) authentication.getPrincipal();
-                            String jwt = jwtTokenProvider.createToken(user.getEmail(), "ROLE_USER");
+                            TokenPair tokens = authTokenService.issue(user.getUser(), "ROLE_USER");
 
-                            response.addHeader("Authorization", "Bearer " + jwt);
+                            response.addHeader("Authorization", "Bearer " + tokens.getAccessToken());
                             response.setContentType("application/json");
-                            response.getWriter().write("{\"token\": \"" + jwt + "\"}");
+                            response.getWriter().write("{\"token\": \"" + tokens.getAccessToken()
+                                    + "\", \"refreshToken\": \"" + tokens.getRefreshToken() + "\"}");
                         })
                 );
 
@@ -64,9 +75,4 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.capstone.quicklendar.config;
 
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -19,6 +22,13 @@ public class WebConfig {
                         .allowedHeaders("*")
                         .allowCredentials(true); // 쿠키나 인증 정보를 허용할지 설정
             }
+
+            @Override
+            public void addFormatters(FormatterRegistry registry) {
+                // 쿼리 파라미터의 enum 값은 대소문자 구분 없이 변환
+                registry.addConverter(String.class, Category.class, source -> Category.valueOf(source.trim().toUpperCase()));
+                registry.addConverter(String.class, CompetitionType.class, source -> CompetitionType.valueOf(source.trim().toUpperCase()));
+            }
         };
     }
 }
\ No newline at end of file
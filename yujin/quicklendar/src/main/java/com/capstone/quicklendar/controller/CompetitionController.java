@@ -2,67 +2,284 @@ package com.capstone.quicklendar.controller;
 
 import com.capstone.quicklendar.domain.competition.Category;
 import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionPeriod;
 import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.domain.user.CustomUserDetails;
+import com.capstone.quicklendar.service.competition.CompetitionJsonWriter;
+import com.capstone.quicklendar.service.competition.CompetitionLikeService;
 import com.capstone.quicklendar.service.competition.CompetitionService;
+import com.capstone.quicklendar.service.competition.calendar.CompetitionIcsFeed;
+import com.capstone.quicklendar.service.competition.feed.CompetitionChangeBroadcaster;
+import com.capstone.quicklendar.service.competition.feed.CompetitionChangeFeed;
+import com.capstone.quicklendar.service.competition.importer.CompetitionImportService;
+import com.capstone.quicklendar.util.ImageHandler;
+import com.capstone.quicklendar.util.dto.CompetitionChangesDTO;
 import com.capstone.quicklendar.util.dto.CompetitionDTO;
 import com.capstone.quicklendar.util.dto.CompetitionFormDTO;
+import com.capstone.quicklendar.util.dto.CompetitionImportResult;
+import com.capstone.quicklendar.util.dto.CompetitionSearchCondition;
+import com.capstone.quicklendar.util.dto.HostSuggestionDTO;
+import com.capstone.quicklendar.util.image.ImagePipeline;
+import com.capstone.quicklendar.util.image.ImageVariant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/competitions")
 public class CompetitionController {
 
-    private final CompetitionService competitionService;
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String JSON_UTF8 = "application/json; charset=UTF-8";
+    private static final String CSV = "text/csv";
+    // 캘린더 조회 구간 최대 길이 (일)
+    private static final int MAX_CALENDAR_DAYS = 366;
+    // 마감 임박 조회 최대 기간 (일)
+    private static final int MAX_CLOSING_SOON_DAYS = 365;
+    // 좋아요 여부 일괄 조회 최대 id 수
+    private static final int MAX_LIKED_IDS = 200;
 
-    @Value("${image.upload.dir}")
-    private String uploadDir;
+    private final CompetitionService competitionService;
+    private final CompetitionLikeService competitionLikeService;
+    private final CompetitionJsonWriter competitionJsonWriter;
+    private final ImageHandler imageHandler;
+    private final ImagePipeline imagePipeline;
+    private final ObjectMapper objectMapper;
+    private final CompetitionImportService competitionImportService;
+    private final CompetitionChangeFeed changeFeed;
+    private final CompetitionChangeBroadcaster changeBroadcaster;
+    private final CompetitionIcsFeed icsFeed;
 
     @Value("${image.base.url}")
     private String imageBaseUrl;
 
     @Autowired
-    public CompetitionController(CompetitionService competitionService) {
+    public CompetitionController(CompetitionService competitionService, CompetitionLikeService competitionLikeService,
+                                 CompetitionJsonWriter competitionJsonWriter, ImageHandler imageHandler,
+                                 ImagePipeline imagePipeline, ObjectMapper objectMapper,
+                                 CompetitionImportService competitionImportService, CompetitionChangeFeed changeFeed,
+                                 CompetitionChangeBroadcaster changeBroadcaster, CompetitionIcsFeed icsFeed) {
         this.competitionService = competitionService;
+        this.competitionLikeService = competitionLikeService;
+        this.competitionJsonWriter = competitionJsonWriter;
+        this.imageHandler = imageHandler;
+        this.imagePipeline = imagePipeline;
+        this.objectMapper = objectMapper;
+        this.competitionImportService = competitionImportService;
+        this.changeFeed = changeFeed;
+        this.changeBroadcaster = changeBroadcaster;
+        this.icsFeed = icsFeed;
     }
 
-    // 공모전 목록 조회
+    // 공모전 목록 조회 (캐시된 공모전별 JSON 바이트를 그대로 이어 붙여 응답)
     @GetMapping(produces = "application/json; charset=UTF-8")
-    public ResponseEntity<List<CompetitionDTO>> getAllCompetitions(
+    public void getAllCompetitions(
             @RequestParam(value = "category", required = false) String categoryStr,
             @RequestParam(value = "competitionType", required = false) String competitionTypeStr,
-            @RequestParam(value = "host", required = false) String host) {
-        Category category = (categoryStr != null) ? Category.valueOf(categoryStr.toUpperCase()) : null;
-        CompetitionType competitionType = (competitionTypeStr != null) ? CompetitionType.valueOf(competitionTypeStr.toUpperCase()) : null;
+            @RequestParam(value = "host", required = false) String host,
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            HttpServletResponse response) throws IOException {
+        CompetitionSearchCondition condition = new CompetitionSearchCondition(
+                parseCategory(categoryStr), parseCompetitionType(competitionTypeStr), host);
+
+        response.setContentType(JSON_UTF8);
+        competitionJsonWriter.writeCompetitions(condition, sortBy, response.getOutputStream());
+    }
+
+    // 공모전 목록 커서 기반 페이지 조회 (필터 + 정렬 + 페이지)
+    @GetMapping(path = "/page", produces = "application/json; charset=UTF-8")
+    public void getCompetitionPage(
+            @ModelAttribute CompetitionSearchCondition condition,
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(JSON_UTF8);
+        try {
+            competitionJsonWriter.writePage(condition, sortBy, cursor, size, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    // 공모전 목록 NDJSON 스트리밍 (Accept: application/x-ndjson, 페이지 단위로 flush)
+    @GetMapping(path = "/page", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamCompetitions(
+            @ModelAttribute CompetitionSearchCondition condition,
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        StreamingResponseBody body = outputStream -> competitionService.streamCompetitions(condition, sortBy, cursor, size, chunk -> {
+            try {
+                for (CompetitionDTO competition : chunk) {
+                    outputStream.write(objectMapper.writeValueAsBytes(competition));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    // 공모전 키워드 검색 (name, description, host, support, location)
+    @GetMapping(path = "/search", produces = "application/json; charset=UTF-8")
+    public void searchCompetitions(
+            @RequestParam("q") String keyword,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(JSON_UTF8);
+        competitionJsonWriter.writeSearchResults(keyword, size, response.getOutputStream());
+    }
+
+    // 변경 피드: 버전 since 이후 등록/수정/삭제/좋아요 수 변경 (since 가 없으면 현재 버전만 반환)
+    // reset=true 면 전체 목록을 다시 받고 latestVersion 부터 이어서 조회
+    @GetMapping("/changes")
+    public ResponseEntity<CompetitionChangesDTO> getChanges(
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestParam(value = "limit", required = false, defaultValue = "500") int limit) {
+        return ResponseEntity.ok(changeFeed.changesSince(since != null ? since : changeFeed.latestVersion(), limit));
+    }
+
+    // 변경 피드 SSE 구독 (재연결 시 Last-Event-ID 이후부터 이어서 전송)
+    @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long from = since;
+        if (from == null && lastEventId != null) {
+            try {
+                from = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        SseEmitter emitter = changeBroadcaster.subscribe(from);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "5").build();
+        }
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+
+    // 최근 인기 공모전 (최근 7일 좋아요/조회 수를 시간에 따라 감쇠한 점수순)
+    @GetMapping(path = "/trending", produces = "application/json; charset=UTF-8")
+    public void getTrending(
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(JSON_UTF8);
+        competitionJsonWriter.writeTrending(size, response.getOutputStream());
+    }
+
+    // 접수 마감 임박 공모전 (오늘부터 days 일 안에 마감, 마감일순)
+    @GetMapping(path = "/closing-soon", produces = "application/json; charset=UTF-8")
+    public void getClosingSoon(
+            @RequestParam(value = "days", defaultValue = "7") int days,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        if (days < 0 || days > MAX_CLOSING_SOON_DAYS) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        response.setContentType(JSON_UTF8);
+        competitionJsonWriter.writeClosingSoon(days, size, response.getOutputStream());
+    }
 
-        List<CompetitionDTO> competitions = competitionService.filterCompetitions(category, competitionType, host)
-                .stream()
-                .map(competition -> new CompetitionDTO(competition, imageBaseUrl))
-                .collect(Collectors.toList());
+    // 주최 목록 (필터 UI 용, 이름순)
+    @GetMapping("/hosts")
+    public ResponseEntity<List<String>> getHosts() {
+        return ResponseEntity.ok(competitionService.getAllHosts());
+    }
 
-        return ResponseEntity.ok(competitions);
+    // 주최 자동완성 (접두/중간 일치, 공모전 수 내림차순, 최대 50개)
+    @GetMapping("/hosts/autocomplete")
+    public ResponseEntity<List<HostSuggestionDTO>> autocompleteHosts(
+            @RequestParam("q") String query,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(competitionService.suggestHosts(query, size));
+    }
+
+    // 캘린더 화면용 기간 겹침 조회 (month=YYYY-MM 또는 from/to, period=event|request|any)
+    @GetMapping(path = "/calendar", produces = "application/json; charset=UTF-8")
+    public void getCalendar(
+            @RequestParam(value = "month", required = false) String month,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "period", required = false) String period,
+            HttpServletResponse response) throws IOException {
+        if (month != null) {
+            try {
+                YearMonth yearMonth = YearMonth.parse(month);
+                from = yearMonth.atDay(1);
+                to = yearMonth.atEndOfMonth();
+            } catch (DateTimeParseException e) {
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                return;
+            }
+        }
+        if (from == null || to == null || from.isAfter(to) || from.plusDays(MAX_CALENDAR_DAYS).isBefore(to)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        response.setContentType(JSON_UTF8);
+        competitionJsonWriter.writeCalendar(from, to, CompetitionPeriod.from(period), response.getOutputStream());
+    }
+
+    static Category parseCategory(String categoryStr) {
+        return (categoryStr != null) ? Category.valueOf(categoryStr.toUpperCase()) : null;
+    }
+
+    static CompetitionType parseCompetitionType(String competitionTypeStr) {
+        return (competitionTypeStr != null) ? CompetitionType.valueOf(competitionTypeStr.toUpperCase()) : null;
     }
 
     // 공모전 상세 정보 조회
     @GetMapping("/details/{id}")
-    public ResponseEntity<CompetitionDTO> getCompetition(@PathVariable Long id) {
-        Competition competition = competitionService.getCompetitionById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid competition ID: " + id));
+    public ResponseEntity<byte[]> getCompetition(@PathVariable Long id) {
+        byte[] competition = competitionJsonWriter.getCompetitionJson(id);
+        if (competition == null) {
+            throw new IllegalArgumentException("Invalid competition ID: " + id);
+        }
+        competitionService.recordView(id);
 
-        return ResponseEntity.ok(new CompetitionDTO(competition, imageBaseUrl));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(competition);
+    }
+
+    // 연관 공모전 (이 공모전을 좋아요한 사용자가 함께 좋아요한 공모전, 유사도순)
+    @GetMapping(path = "/details/{id}/related", produces = "application/json; charset=UTF-8")
+    public void getRelated(
+            @PathVariable Long id,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(JSON_UTF8);
+        competitionJsonWriter.writeRelated(id, size, response.getOutputStream());
     }
 
     // 공모전 등록
@@ -71,35 +288,54 @@ public class CompetitionController {
             @RequestPart("competition") CompetitionFormDTO competitionFormDTO,
             @RequestPart(value = "image", required = false) MultipartFile imageFile) {
         try {
-            String fileName = saveImageAndReturnOriginalFileName(imageFile);
+            String fileName = saveImageAndReturnFileName(imageFile);
 
             Competition competition = mapFormDTOToEntity(competitionFormDTO, fileName);
 
             Competition savedCompetition = competitionService.addCompetition(competition);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(new CompetitionDTO(savedCompetition, imageBaseUrl));
+        } catch (IllegalStateException e) {
+            // 같은 공모전(이름 + 주최 + 시작일)이 이미 등록됨
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    // 공모전 대량 등록 (본문을 스트리밍으로 읽음, Content-Type: application/x-ndjson 또는 text/csv)
+    // 같은 공모전(이름 + 주최 + 시작일)은 건너뛰므로 같은 파일을 다시 보내도 안전, 행별 오류는 결과에 포함
+    @PostMapping(path = "/import", consumes = {NDJSON, CSV})
+    public ResponseEntity<CompetitionImportResult> importCompetitions(HttpServletRequest request,
+                                                                      @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            MediaType contentType = MediaType.parseMediaType(request.getContentType());
+            CompetitionImportResult result = contentType.isCompatibleWith(MediaType.parseMediaType(CSV))
+                    ? competitionImportService.importCsv(request.getInputStream())
+                    : competitionImportService.importNdjson(request.getInputStream());
+            return ResponseEntity.ok(result);
         } catch (IOException e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
 
-    // 공모전 이미지 저장
+    // 공모전 이미지 저장 (원본만 저장하고 바로 응답, 변형 이미지는 백그라운드에서 생성)
     @PostMapping("/upload")
     public ResponseEntity<Map<String, String>> uploadImage(@RequestPart("file") MultipartFile file) {
         try {
-            File directory = new File(uploadDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
-
-            String fileName = file.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-
-            file.transferTo(filePath.toFile());
+            String fileName = imageHandler.saveImage(file);
+            imagePipeline.submit(fileName);
 
             Map<String, String> response = new HashMap<>();
             response.put("imageUrl", fileName);
+            response.put("thumbnailUrl", ImageVariant.THUMBNAIL.urlOf(imageBaseUrl, fileName));
+            response.put("listImageUrl", ImageVariant.LIST.urlOf(imageBaseUrl, fileName));
+            response.put("detailImageUrl", ImageVariant.DETAIL.urlOf(imageBaseUrl, fileName));
             return ResponseEntity.ok(response);
         } catch (IOException e) {
             e.printStackTrace();
@@ -107,25 +343,15 @@ public class CompetitionController {
         }
     }
 
-    // 헬퍼 메서드: 이미지 저장 및 원본 파일 이름 반환
-    private String saveImageAndReturnOriginalFileName(MultipartFile imageFile) throws IOException {
-        if (imageFile != null && !imageFile.isEmpty()) {
-            File directory = new File(uploadDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
-
-            String fileName = imageFile.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-
-            imageFile.transferTo(filePath.toFile());
-            return fileName;
-        }
-        return null;
+    // 헬퍼 메서드: 이미지 저장 및 저장된 이미지 이름({hash}.{확장자}) 반환
+    private String saveImageAndReturnFileName(MultipartFile imageFile) throws IOException {
+        String fileName = imageHandler.saveImage(imageFile);
+        imagePipeline.submit(fileName);
+        return fileName;
     }
 
-    // 헬퍼 메서드: DTO -> Entity 변환
-    private Competition mapFormDTOToEntity(CompetitionFormDTO dto, String imagePath) {
+    // 헬퍼 메서드: DTO -> Entity 변환 (JMH 벤치마크에서 직접 호출하므로 package-private static)
+    static Competition mapFormDTOToEntity(CompetitionFormDTO dto, String imagePath) {
         Competition competition = new Competition();
         competition.setName(dto.getName());
         competition.setDescription(dto.getDescription());
@@ -143,6 +369,84 @@ public class CompetitionController {
         return competition;
     }
 
+    // 공모전 좋아요 (비동기 반영, 큐가 가득 차면 429)
+    @PostMapping("/{id}/like")
+    public ResponseEntity<Void> likeCompetition(@PathVariable Long id,
+                                                @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        boolean accepted = competitionLikeService.submitLike(id, userDetails.getId());
+        return ResponseEntity.status(accepted ? HttpStatus.ACCEPTED : HttpStatus.TOO_MANY_REQUESTS).build();
+    }
+
+    // 공모전 좋아요 취소 (비동기 반영, 큐가 가득 차면 429)
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<Void> unlikeCompetition(@PathVariable Long id,
+                                                  @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        boolean accepted = competitionLikeService.submitUnlike(id, userDetails.getId());
+        return ResponseEntity.status(accepted ? HttpStatus.ACCEPTED : HttpStatus.TOO_MANY_REQUESTS).build();
+    }
+
+    // 공모전 좋아요 여부 조회
+    @GetMapping("/{id}/like")
+    public ResponseEntity<Map<String, Boolean>> isLiked(@PathVariable Long id,
+                                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Map<String, Boolean> response = new HashMap<>();
+        response.put("liked", competitionLikeService.isLiked(id, userDetails.getId()));
+        return ResponseEntity.ok(response);
+    }
+
+    // 여러 공모전의 좋아요 여부 한 번에 조회 (ids=1,2,3, 최대 200개)
+    @GetMapping("/liked")
+    public ResponseEntity<Map<Long, Boolean>> areLiked(@RequestParam("ids") List<Long> ids,
+                                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (ids.size() > MAX_LIKED_IDS || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(competitionLikeService.areLiked(ids, userDetails.getId()));
+    }
+
+    // 좋아요한 공모전 iCalendar 구독 피드 (외부 캘린더 앱은 token 파라미터, 로그인 사용자는 Authorization 헤더로 인증)
+    // If-None-Match 가 현재 ETag 와 같으면 304
+    @GetMapping("/liked/calendar.ics")
+    public void getLikedCalendar(@RequestParam(value = "token", required = false) String token,
+                                 @AuthenticationPrincipal CustomUserDetails userDetails,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Long userId = userDetails != null ? userDetails.getId() : icsFeed.verifyFeedToken(token);
+        if (userId == null) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        icsFeed.serve(userId, request, response);
+    }
+
+    // 외부 캘린더 앱에 등록할 구독 URL (비밀번호 변경, 모든 기기 로그아웃 후에는 다시 받아야 함)
+    @GetMapping("/liked/calendar-url")
+    public ResponseEntity<Map<String, String>> getLikedCalendarUrl(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String token = icsFeed.feedToken(userDetails.getId());
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/competitions/liked/calendar.ics")
+                .queryParam("token", token)
+                .toUriString();
+        return ResponseEntity.ok(Map.of("url", url));
+    }
+
     // 공모전 삭제
     @DeleteMapping("/delete/{id}")
     public ResponseEntity<Void> deleteCompetition(@PathVariable Long id) {
@@ -0,0 +1,108 @@
+package com.capstone.quicklendar.controller;
+
+import com.capstone.quicklendar.util.ImageHandler;
+import com.capstone.quicklendar.util.image.ImageFileServer;
+import com.capstone.quicklendar.util.image.ImagePipeline;
+import com.capstone.quicklendar.util.image.ImageVariant;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 포스터 이미지 제공 (HEAD, Range, 조건부 요청 지원)
+@RestController
+@RequestMapping("/images")
+public class ImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    // 예전 방식(원본 파일명)으로 저장된 이미지는 덮어써질 수 있으므로 ETag 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic().mustRevalidate();
+    private static final CacheControl SHORT = CacheControl.maxAge(1, TimeUnit.MINUTES);
+    private static final String STATIC_IMAGE_LOCATION = "static/images/";
+
+    private final ImageHandler imageHandler;
+    private final ImagePipeline imagePipeline;
+    private final ImageFileServer imageFileServer;
+
+    @Autowired
+    public ImageController(ImageHandler imageHandler, ImagePipeline imagePipeline, ImageFileServer imageFileServer) {
+        this.imageHandler = imageHandler;
+        this.imagePipeline = imagePipeline;
+        this.imageFileServer = imageFileServer;
+    }
+
+    // 원본 이미지 조회
+    // 내용 주소 이미지는 immutable 캐시 + hash ETag, 그 외에는 upload dir -> classpath static/images 순으로 찾음
+    @GetMapping("/{fileName}")
+    public void getImage(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaType contentType = mediaTypeOf(fileName);
+        boolean contentAddressed = imageHandler.isContentAddressed(fileName);
+        Path path = imageHandler.resolve(fileName);
+
+        if (imageFileServer.serve(path, contentType, contentAddressed ? IMMUTABLE : REVALIDATE,
+                contentAddressed ? imageHandler.hashOf(fileName) : null, request, response)) {
+            return;
+        }
+        if (contentAddressed || !serveBundledImage(fileName, contentType, response)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    // 리사이즈된 변형 이미지 조회
+    // 아직 만들어지지 않았으면 생성을 요청하고 원본으로 응답 (짧게 캐시해서 다음 요청에 변형을 받도록)
+    @GetMapping("/variants/{variant}/{fileName}")
+    public void getVariant(@PathVariable String variant, @PathVariable String fileName,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImageVariant imageVariant = ImageVariant.from(variant);
+        if (imageVariant == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 같은 원본 + 같은 변형 설정이면 결과도 같음
+        boolean contentAddressed = imageHandler.isContentAddressed(fileName);
+        if (imageFileServer.serve(imagePipeline.variantPath(imageVariant, fileName), MediaType.IMAGE_JPEG,
+                contentAddressed ? IMMUTABLE : REVALIDATE,
+                contentAddressed ? imageHandler.hashOf(fileName) + "-" + imageVariant.getName() : null, request, response)) {
+            return;
+        }
+
+        Path originalPath = imagePipeline.originalPath(fileName);
+        if (imageFileServer.serve(originalPath, mediaTypeOf(fileName), SHORT, null, request, response)) {
+            imagePipeline.submit(originalPath.getFileName().toString());
+            return;
+        }
+        response.sendError(HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    // 애플리케이션에 포함된 기본 이미지 (jar 안에 있으므로 스트림 복사)
+    private boolean serveBundledImage(String fileName, MediaType contentType, HttpServletResponse response) throws IOException {
+        ClassPathResource resource = new ClassPathResource(STATIC_IMAGE_LOCATION + Path.of(fileName).getFileName());
+        if (!resource.exists()) {
+            return false;
+        }
+        response.setContentType(contentType.toString());
+        response.setHeader("Cache-Control", REVALIDATE.getHeaderValue());
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copy(in, response.getOutputStream());
+        }
+        return true;
+    }
+
+    private static MediaType mediaTypeOf(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
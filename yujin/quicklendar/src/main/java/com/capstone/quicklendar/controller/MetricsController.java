@@ -0,0 +1,131 @@
+package com.capstone.quicklendar.controller;
+
+import com.capstone.quicklendar.service.competition.CompetitionCache;
+import com.capstone.quicklendar.service.competition.LikeEventPipeline;
+import com.capstone.quicklendar.service.competition.calendar.CompetitionIcsFeed;
+import com.capstone.quicklendar.service.competition.deadline.DeadlineReminderScheduler;
+import com.capstone.quicklendar.service.competition.feed.CompetitionChangeBroadcaster;
+import com.capstone.quicklendar.service.competition.like.CompetitionLikeIndex;
+import com.capstone.quicklendar.service.competition.related.RelatedCompetitionIndex;
+import com.capstone.quicklendar.service.competition.trending.TrendingRanking;
+import com.capstone.quicklendar.service.user.CustomUserDetailsService;
+import com.capstone.quicklendar.util.image.ImageFileServer;
+import com.capstone.quicklendar.util.image.ImagePipeline;
+import com.capstone.quicklendar.util.jwt.JwtTokenProvider;
+import com.capstone.quicklendar.util.security.QueuedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 내부 파이프라인/캐시 상태 조회 (인증 필요)
+@RestController
+@RequestMapping("/metrics")
+public class MetricsController {
+
+    private final LikeEventPipeline likeEventPipeline;
+    private final CompetitionCache competitionCache;
+    private final ImagePipeline imagePipeline;
+    private final ImageFileServer imageFileServer;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final QueuedPasswordEncoder passwordEncoder;
+    private final CompetitionChangeBroadcaster changeBroadcaster;
+    private final CompetitionLikeIndex likeIndex;
+    private final TrendingRanking trendingRanking;
+    private final DeadlineReminderScheduler reminderScheduler;
+    private final RelatedCompetitionIndex relatedIndex;
+    private final CompetitionIcsFeed icsFeed;
+
+    @Autowired
+    public MetricsController(LikeEventPipeline likeEventPipeline, CompetitionCache competitionCache,
+                             ImagePipeline imagePipeline, ImageFileServer imageFileServer,
+                             JwtTokenProvider jwtTokenProvider, CustomUserDetailsService customUserDetailsService,
+                             QueuedPasswordEncoder passwordEncoder, CompetitionChangeBroadcaster changeBroadcaster,
+                             CompetitionLikeIndex likeIndex, TrendingRanking trendingRanking,
+                             DeadlineReminderScheduler reminderScheduler, RelatedCompetitionIndex relatedIndex,
+                             CompetitionIcsFeed icsFeed) {
+        this.likeEventPipeline = likeEventPipeline;
+        this.competitionCache = competitionCache;
+        this.imagePipeline = imagePipeline;
+        this.imageFileServer = imageFileServer;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.customUserDetailsService = customUserDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.changeBroadcaster = changeBroadcaster;
+        this.likeIndex = likeIndex;
+        this.trendingRanking = trendingRanking;
+        this.reminderScheduler = reminderScheduler;
+        this.relatedIndex = relatedIndex;
+        this.icsFeed = icsFeed;
+    }
+
+    // 좋아요 write-behind 큐 깊이와 flush 지연 시간
+    @GetMapping("/like-pipeline")
+    public ResponseEntity<Map<String, Object>> likePipeline() {
+        return ResponseEntity.ok(likeEventPipeline.stats());
+    }
+
+    // 공모전 상세/목록 캐시, 이미지 파일 캐시, 토큰 검증/사용자 캐시, 좋아요 색인별 hit/miss/eviction
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, Object>> caches() {
+        Map<String, Object> stats = new LinkedHashMap<>(competitionCache.stats());
+        stats.put("hotImageFiles", imageFileServer.stats());
+        stats.put("verifiedTokens", jwtTokenProvider.verifiedTokenCacheStats());
+        stats.put("principals", customUserDetailsService.principalCacheStats());
+        stats.putAll(likeIndex.stats());
+        return ResponseEntity.ok(stats);
+    }
+
+    // 폐기된 토큰 목록 크기와 조회 수
+    @GetMapping("/token-revocations")
+    public ResponseEntity<Map<String, Object>> tokenRevocations() {
+        return ResponseEntity.ok(jwtTokenProvider.revocationStats());
+    }
+
+    // 비밀번호 해싱 대기 시간과 해싱 시간 (따로 집계)
+    @GetMapping("/password-hashing")
+    public ResponseEntity<Map<String, Object>> passwordHashing() {
+        return ResponseEntity.ok(passwordEncoder.stats());
+    }
+
+    // 이미지 변형 생성 작업 대기열/처리 시간
+    @GetMapping("/image-pipeline")
+    public ResponseEntity<Map<String, Object>> imagePipeline() {
+        return ResponseEntity.ok(imagePipeline.stats());
+    }
+
+    // 변경 피드 링 버퍼 위치와 SSE 구독자 수/전송 건수
+    @GetMapping("/change-feed")
+    public ResponseEntity<Map<String, Object>> changeFeed() {
+        return ResponseEntity.ok(changeBroadcaster.stats());
+    }
+
+    // 최근 인기 순위 카운터 수와 마지막 재계산 시간
+    @GetMapping("/trending")
+    public ResponseEntity<Map<String, Object>> trending() {
+        return ResponseEntity.ok(trendingRanking.stats());
+    }
+
+    // 마감 알림 대기 타이머 수와 발송 건수
+    @GetMapping("/deadline-reminders")
+    public ResponseEntity<Map<String, Object>> deadlineReminders() {
+        return ResponseEntity.ok(reminderScheduler.stats());
+    }
+
+    // 연관 공모전 동시 발생 행렬 크기와 마지막 전체 재계산 시간
+    @GetMapping("/related")
+    public ResponseEntity<Map<String, Object>> related() {
+        return ResponseEntity.ok(relatedIndex.stats());
+    }
+
+    // iCalendar 피드 응답/304 건수와 피드/VEVENT 캐시 상태
+    @GetMapping("/ics")
+    public ResponseEntity<Map<String, Object>> ics() {
+        return ResponseEntity.ok(icsFeed.stats());
+    }
+}
@@ -2,12 +2,14 @@ package com.capstone.quicklendar.controller;
 
 import com.capstone.quicklendar.domain.user.CustomUserDetails;
 import com.capstone.quicklendar.domain.user.User;
+import com.capstone.quicklendar.service.user.AuthTokenService;
 import com.capstone.quicklendar.service.user.CustomOAuth2UserService;
 import com.capstone.quicklendar.service.user.UserService;
 import com.capstone.quicklendar.util.dto.JwtResponse;
 import com.capstone.quicklendar.util.dto.LoginRequest;
 import com.capstone.quicklendar.util.dto.SignUpRequest;
-import com.capstone.quicklendar.util.jwt.JwtTokenProvider;
+import com.capstone.quicklendar.util.jwt.TokenPair;
+import com.capstone.quicklendar.util.security.PasswordHashingBusyException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -16,6 +18,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -31,15 +34,15 @@ public class UserController {
     private final UserService userService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthTokenService authTokenService;
 
     @Autowired
     public UserController(UserService userService, CustomOAuth2UserService customOAuth2UserService,
-                          AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider) {
+                          AuthenticationManager authenticationManager, AuthTokenService authTokenService) {
         this.userService = userService;
         this.customOAuth2UserService = customOAuth2UserService;
         this.authenticationManager = authenticationManager;
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.authTokenService = authTokenService;
     }
 
     // 회원가입 처리 - JSON
@@ -55,6 +58,8 @@ public class UserController {
             Long userId = userService.join(user);
 
             return ResponseEntity.status(HttpStatus.CREATED).body("회원가입이 완료되었습니다. User ID: " + userId);
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e.getMessage());
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 존재하는 이메일입니다.");
         } catch (Exception e) {
@@ -62,7 +67,7 @@ public class UserController {
         }
     }
 
-    // 로그인 처리 - JWT 발급
+    // 로그인 처리 - JWT(access token) + refresh token 발급
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
 
@@ -80,14 +85,16 @@ public class UserController {
                     .collect(Collectors.joining(","));
 
             User user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
-            String jwt = jwtTokenProvider.createToken(authentication.getName(), roles);
+            TokenPair tokens = authTokenService.issue(user, roles);
 
             HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + jwt);
+            headers.set("Authorization", "Bearer " + tokens.getAccessToken());
 
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(new JwtResponse(jwt, "Bearer", user.getName(), user.getEmail()));
+                    .body(new JwtResponse(tokens.getAccessToken(), tokens.getRefreshToken(), "Bearer", user.getName(), user.getEmail()));
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e.getMessage());
         } catch (AuthenticationException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 실패: 잘못된 이메일 또는 비밀번호입니다.");
         } catch (Exception e) {
@@ -95,12 +102,73 @@ public class UserController {
         }
     }
 
-    // 로그아웃 처리
+    // access token 재발급 - refresh token 은 한 번만 쓸 수 있고 새 refresh token 으로 교체됨
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody Map<String, String> body) {
+        try {
+            TokenPair tokens = authTokenService.refresh(body.get("refreshToken"));
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + tokens.getAccessToken());
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new JwtResponse(tokens.getAccessToken(), tokens.getRefreshToken(), "Bearer", null, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    // 로그아웃 처리 - access token 과 같은 로그인에서 발급된 refresh token 을 폐기
     @PostMapping("/logout")
-    public ResponseEntity<?> logoutUser() {
+    public ResponseEntity<?> logoutUser(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                        @RequestBody(required = false) Map<String, String> body) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authTokenService.logout(accessToken, body != null ? body.get("refreshToken") : null);
         return ResponseEntity.ok("로그아웃 성공");
     }
 
+    // 모든 기기에서 로그아웃 - 토큰 버전을 올려 이 사용자에게 발급된 모든 access/refresh token 을 거부
+    @PostMapping("/logout/all")
+    public ResponseEntity<?> logoutEverywhere(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            userService.logoutEverywhere(userDetails.getId());
+            return ResponseEntity.ok("모든 기기에서 로그아웃되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // 비밀번호 변경 - 이전에 발급된 토큰은 모두 거부되고, 이 요청에 새 토큰을 발급
+    @PostMapping("/users/me/password")
+    public ResponseEntity<?> changePassword(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                            @RequestBody Map<String, String> body) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            User user = userService.changePassword(userDetails.getId(), body.get("currentPassword"), body.get("newPassword"));
+            String roles = userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.joining(","));
+            TokenPair tokens = authTokenService.issue(user, roles);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + tokens.getAccessToken());
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new JwtResponse(tokens.getAccessToken(), tokens.getRefreshToken(), "Bearer", user.getName(), user.getEmail()));
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // 네이버 로그인 처리 - 인증코드 받아오기
     @GetMapping("/oauth2/login/naver")
     public ResponseEntity<?> naverLoginCallback(@RequestParam("code") String code, @RequestParam("state") String state) {
@@ -108,11 +176,13 @@ public class UserController {
             String accessToken = customOAuth2UserService.getAccessToken("naver", code, state);
 
             Map<String, Object> userProfile = customOAuth2UserService.getNaverUserProfile(accessToken);
-            String email = (String) userProfile.get("email");
+            User user = customOAuth2UserService.findOrCreateUser("naver", userProfile);
+            if (!user.isEnabled()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("비활성화된 계정입니다.");
+            }
+            TokenPair tokens = authTokenService.issue(user, "ROLE_USER");
 
-            String token = jwtTokenProvider.createToken(email, "ROLE_USER");
-
-            return ResponseEntity.ok(new JwtResponse(token));
+            return ResponseEntity.ok(new JwtResponse(tokens.getAccessToken(), tokens.getRefreshToken(), "Bearer", user.getName(), user.getEmail()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("OAuth2 로그인 실패: " + e.getMessage());
         }
@@ -127,13 +197,16 @@ public class UserController {
 
             String accessToken = customOAuth2UserService.getAccessToken("naver", code, state);
             Map<String, Object> userProfile = customOAuth2UserService.getNaverUserProfile(accessToken);
-
-            String email = (String) userProfile.get("email");
-            String jwt = jwtTokenProvider.createToken(email, "ROLE_USER");
+            User user = customOAuth2UserService.findOrCreateUser("naver", userProfile);
+            if (!user.isEnabled()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("비활성화된 계정입니다.");
+            }
+            TokenPair tokens = authTokenService.issue(user, "ROLE_USER");
 
             Map<String, String> response = new HashMap<>();
-            response.put("token", jwt);
-            response.put("email", email);
+            response.put("token", tokens.getAccessToken());
+            response.put("refreshToken", tokens.getRefreshToken());
+            response.put("email", user.getEmail());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -150,17 +223,27 @@ public class UserController {
 
             // 구글 사용자 프로필 가져오기
             Map<String, Object> userProfile = customOAuth2UserService.getGoogleUserProfile(accessToken);
-            String email = (String) userProfile.get("email");
-
-            String jwt = jwtTokenProvider.createToken(email, "ROLE_USER");
+            User user = customOAuth2UserService.findOrCreateUser("google", userProfile);
+            if (!user.isEnabled()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("비활성화된 계정입니다.");
+            }
+            TokenPair tokens = authTokenService.issue(user, "ROLE_USER");
 
             Map<String, String> response = new HashMap<>();
-            response.put("token", jwt);
-            response.put("email", email);
+            response.put("token", tokens.getAccessToken());
+            response.put("refreshToken", tokens.getRefreshToken());
+            response.put("email", user.getEmail());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("OAuth2 로그인 실패: " + e.getMessage());
         }
     }
+
+    // 비밀번호 해싱 대기열이 가득 참
+    private static <T> ResponseEntity<T> tooManyRequests(T body) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
 }
@@ -10,7 +10,20 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "competitions")
+@Table(name = "competitions", indexes = {
+        @Index(name = "idx_competitions_category_type_host", columnList = "category, competition_type, host"),
+        @Index(name = "idx_competitions_type_host", columnList = "competition_type, host"),
+        @Index(name = "idx_competitions_host", columnList = "host"),
+        @Index(name = "idx_competitions_start_date", columnList = "start_date, id"),
+        @Index(name = "idx_competitions_end_date", columnList = "end_date, id"),
+        @Index(name = "idx_competitions_request_start_date", columnList = "request_start_date, id"),
+        @Index(name = "idx_competitions_request_end_date", columnList = "request_end_date, id"),
+        @Index(name = "idx_competitions_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_competitions_like_count", columnList = "like_count, id"),
+        @Index(name = "idx_competitions_image", columnList = "image"),
+        // 대량 등록을 여러 번 실행해도 같은 공모전이 중복 저장되지 않도록 하는 자연 키
+        @Index(name = "uk_competitions_name_host_start_date", columnList = "name, host, start_date", unique = true)
+})
 @NoArgsConstructor
 public class Competition {
 
@@ -62,9 +75,22 @@ public class Competition {
     @Column(nullable = false, updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
+    // 좋아요 수 (competition_likes 기준 비정규화 값, SQL 로만 증감하므로 엔티티 저장 시에는 쓰지 않음)
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private int likeCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now(); // 엔티티가 처음 생성될 때 현재 시간을 설정
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 
     @OneToMany(mappedBy = "competition", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -206,8 +232,12 @@ public class Competition {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
     public int getLikeCount() {
-        return likes.size();
+        return likeCount;
     }
 
     public void addLike(CompetitionLike like) {
@@ -0,0 +1,46 @@
+package com.capstone.quicklendar.domain.competition;
+
+// 공모전 등록/수정/삭제 시 CompetitionService 가 발행하는 이벤트 (검색 색인 등 인메모리 구조 갱신용)
+public class CompetitionChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long competitionId;
+    private final Competition competition;
+
+    private CompetitionChangedEvent(ChangeType changeType, Long competitionId, Competition competition) {
+        this.changeType = changeType;
+        this.competitionId = competitionId;
+        this.competition = competition;
+    }
+
+    public static CompetitionChangedEvent created(Competition competition) {
+        return new CompetitionChangedEvent(ChangeType.CREATED, competition.getId(), competition);
+    }
+
+    public static CompetitionChangedEvent updated(Competition competition) {
+        return new CompetitionChangedEvent(ChangeType.UPDATED, competition.getId(), competition);
+    }
+
+    public static CompetitionChangedEvent deleted(Long competitionId) {
+        return new CompetitionChangedEvent(ChangeType.DELETED, competitionId, null);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+
+    // 삭제 이벤트에서는 null
+    public Competition getCompetition() {
+        return competition;
+    }
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import java.util.Date;
 
 @Entity
-@Table(name = "competition_likes")
+@Table(name = "competition_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_competition_likes_user_competition", columnNames = {"user_id", "competition_id"})
+})
 public class CompetitionLike {
 
     @Id
@@ -0,0 +1,39 @@
+package com.capstone.quicklendar.domain.competition;
+
+// 좋아요가 실제로 추가/삭제되어 DB 에 반영된 뒤 발행되는 이벤트 (캐시 무효화, 인메모리 좋아요 색인 갱신용)
+public class CompetitionLikeChangedEvent {
+
+    private final Long competitionId;
+    private final Long userId;
+    private final boolean liked;
+    private final boolean confirmed;
+
+    public CompetitionLikeChangedEvent(Long competitionId, Long userId, boolean liked) {
+        this(competitionId, userId, liked, true);
+    }
+
+    public CompetitionLikeChangedEvent(Long competitionId, Long userId, boolean liked, boolean confirmed) {
+        this.competitionId = competitionId;
+        this.userId = userId;
+        this.liked = liked;
+        this.confirmed = confirmed;
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    // true 면 좋아요 추가, false 면 좋아요 취소
+    public boolean isLiked() {
+        return liked;
+    }
+
+    // false 면 드라이버가 행별 건수를 주지 않아 실제로 바뀌었는지 모름 (좋아요 수는 재집계됨)
+    public boolean isConfirmed() {
+        return confirmed;
+    }
+}
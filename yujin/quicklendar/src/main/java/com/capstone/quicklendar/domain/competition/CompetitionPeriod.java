@@ -0,0 +1,29 @@
+package com.capstone.quicklendar.domain.competition;
+
+// 캘린더 조회 시 기간 비교 대상
+// EVENT: 대회 기간(startDate ~ endDate), REQUEST: 접수 기간(requestStartDate ~ requestEndDate), ANY: 둘 중 하나
+public enum CompetitionPeriod {
+    EVENT,
+    REQUEST,
+    ANY;
+
+    public boolean includesEvent() {
+        return this != REQUEST;
+    }
+
+    public boolean includesRequest() {
+        return this != EVENT;
+    }
+
+    // 알 수 없는 값이면 ANY
+    public static CompetitionPeriod from(String period) {
+        if (period != null) {
+            for (CompetitionPeriod value : values()) {
+                if (value.name().equalsIgnoreCase(period)) {
+                    return value;
+                }
+            }
+        }
+        return ANY;
+    }
+}
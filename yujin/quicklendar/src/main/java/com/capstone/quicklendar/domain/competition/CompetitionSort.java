@@ -0,0 +1,50 @@
+package com.capstone.quicklendar.domain.competition;
+
+// 공모전 목록 정렬 기준 (sortBy 요청 파라미터 값으로 선택)
+public enum CompetitionSort {
+    LIKES("likes", "likeCount", false),
+    CREATED_AT("createdAt", "createdAt", false),
+    START_DATE_ASC("startDateAsc", "startDate", true),
+    START_DATE_DESC("startDateDesc", "startDate", false),
+    END_DATE_ASC("endDateAsc", "endDate", true),
+    END_DATE_DESC("endDateDesc", "endDate", false),
+    REQUEST_START_DATE_ASC("requestStartDateAsc", "requestStartDate", true),
+    REQUEST_START_DATE_DESC("requestStartDateDesc", "requestStartDate", false),
+    REQUEST_END_DATE_ASC("requestEndDateAsc", "requestEndDate", true),
+    REQUEST_END_DATE_DESC("requestEndDateDesc", "requestEndDate", false),
+    ID("id", "id", true);
+
+    private final String sortBy;
+    private final String property;
+    private final boolean ascending;
+
+    CompetitionSort(String sortBy, String property, boolean ascending) {
+        this.sortBy = sortBy;
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    // 알 수 없는 값이면 기존 findAll() 과 같이 id 순으로 처리
+    public static CompetitionSort from(String sortBy) {
+        if (sortBy != null) {
+            for (CompetitionSort sort : values()) {
+                if (sort.sortBy.equals(sortBy)) {
+                    return sort;
+                }
+            }
+        }
+        return ID;
+    }
+}
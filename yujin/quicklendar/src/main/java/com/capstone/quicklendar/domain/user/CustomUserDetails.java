@@ -3,21 +3,44 @@ package com.capstone.quicklendar.domain.user;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
 public class CustomUserDetails implements UserDetails {
 
     private final User user;
+    private final List<GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
+        this(user, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private CustomUserDetails(User user, List<GrantedAuthority> authorities) {
         this.user = user;
+        this.authorities = authorities;
+    }
+
+    // JWT claims 만으로 만든 사용자 정보 (DB 조회 없음, id/이메일/권한 외의 User 필드는 비어 있음)
+    public static CustomUserDetails fromClaims(Long id, String email, String roles) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setEnabled(true);
+        List<GrantedAuthority> authorities = roles == null || roles.isBlank()
+                ? List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                : Arrays.stream(roles.split(","))
+                        .map(String::trim)
+                        .filter(role -> !role.isEmpty())
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList();
+        return new CustomUserDetails(user, authorities);
     }
 
     @Override
 
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return authorities;
     }
 
     @Override
@@ -50,6 +73,8 @@ public class CustomUserDetails implements UserDetails {
         return user.isEnabled();
     }
 
+    // fromClaims 로 만든 경우 id/이메일/enabled 만 채워진 User (name, password, userType, tokenVersion 등은 비어 있음)
+    // 그 외 사용자 정보가 필요하면 getId() 로 DB 에서 다시 조회할 것
     public User getUser() {
         return user;
     }
@@ -58,6 +83,7 @@ public class CustomUserDetails implements UserDetails {
         return user.getId();
     }
 
+    // fromClaims 로 만든 경우 null
     public UserType getUserType() {
         return user.getUserType();
     }
@@ -4,12 +4,16 @@ import com.capstone.quicklendar.domain.competition.Competition;
 import com.capstone.quicklendar.domain.competition.CompetitionLike;
 import com.capstone.quicklendar.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CompetitionLikeRepository extends JpaRepository<CompetitionLike, Long> {
+public interface CompetitionLikeRepository extends JpaRepository<CompetitionLike, Long>, CompetitionLikeRepositoryCustom {
 
     boolean existsByCompetitionAndUser(Competition competition, User user);
 
@@ -19,4 +23,15 @@ public interface CompetitionLikeRepository extends JpaRepository<CompetitionLike
 
     // 유저와 공모전으로 좋아요 찾기
     Optional<CompetitionLike> findByUserAndCompetition(User user, Competition competition);
+
+    // 좋아요 색인 적재용
+    @Query("SELECT cl.competition.id FROM CompetitionLike cl WHERE cl.user.id = :userId")
+    List<Long> findCompetitionIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT cl.user.id FROM CompetitionLike cl WHERE cl.competition.id = :competitionId")
+    List<Long> findUserIdsByCompetitionId(@Param("competitionId") Long competitionId);
+
+    // 최근 인기 순위 초기화용 (공모전 id, 좋아요 시각)
+    @Query("SELECT cl.competition.id, cl.createdAt FROM CompetitionLike cl WHERE cl.createdAt >= :since")
+    List<Object[]> findCompetitionIdsAndCreatedAtSince(@Param("since") Date since);
 }
@@ -0,0 +1,26 @@
+package com.capstone.quicklendar.repository.competition;
+
+import java.util.List;
+
+public interface CompetitionLikeRepositoryCustom {
+
+    // (userId, competitionId) 쌍을 JDBC 배치로 추가, 이미 있거나 공모전이 없으면 건너뜀. 행별 반영 건수 반환
+    int[] batchInsertLikes(List<long[]> userCompetitionPairs);
+
+    // (userId, competitionId) 쌍을 JDBC 배치로 삭제. 행별 반영 건수 반환
+    int[] batchDeleteLikes(List<long[]> userCompetitionPairs);
+
+    // 공모전별 like_count 증감을 JDBC 배치로 반영 (competitionId, delta)
+    void batchAdjustLikeCounts(List<long[]> competitionDeltas);
+
+    // 배치 결과를 알 수 없는 공모전의 like_count 를 실제 건수로 다시 계산
+    void batchRecountLikeCounts(List<Long> competitionIds);
+
+    // 전체 좋아요를 (사용자 id, 공모전 id) 순으로 한 행씩 전달 (연관 공모전 전체 재계산용, 결과 목록을 만들지 않음)
+    void forEachLikeOrderByUser(LikeRowConsumer consumer);
+
+    @FunctionalInterface
+    interface LikeRowConsumer {
+        void accept(long userId, long competitionId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.capstone.quicklendar.repository.competition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public class CompetitionLikeRepositoryCustomImpl implements CompetitionLikeRepositoryCustom {
+
+    private static final String INSERT_LIKE =
+            "INSERT INTO competition_likes (user_id, competition_id, created_at) " +
+            "SELECT ?, c.id, ? FROM competitions c WHERE c.id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM competition_likes l WHERE l.user_id = ? AND l.competition_id = ?)";
+
+    private static final String DELETE_LIKE =
+            "DELETE FROM competition_likes WHERE user_id = ? AND competition_id = ?";
+
+    private static final String ADJUST_LIKE_COUNT =
+            "UPDATE competitions SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private static final String RECOUNT_LIKE_COUNT =
+            "UPDATE competitions SET like_count = " +
+            "(SELECT COUNT(*) FROM competition_likes l WHERE l.competition_id = ?) WHERE id = ?";
+
+    private static final String SELECT_LIKES_ORDER_BY_USER =
+            "SELECT user_id, competition_id FROM competition_likes ORDER BY user_id, competition_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CompetitionLikeRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] batchInsertLikes(List<long[]> userCompetitionPairs) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return jdbcTemplate.batchUpdate(INSERT_LIKE, userCompetitionPairs.stream()
+                .map(pair -> new Object[]{pair[0], now, pair[1], pair[0], pair[1]})
+                .toList());
+    }
+
+    @Override
+    public int[] batchDeleteLikes(List<long[]> userCompetitionPairs) {
+        return jdbcTemplate.batchUpdate(DELETE_LIKE, userCompetitionPairs.stream()
+                .map(pair -> new Object[]{pair[0], pair[1]})
+                .toList());
+    }
+
+    @Override
+    public void batchAdjustLikeCounts(List<long[]> competitionDeltas) {
+        jdbcTemplate.batchUpdate(ADJUST_LIKE_COUNT, competitionDeltas.stream()
+                .map(delta -> new Object[]{delta[1], delta[0]})
+                .toList());
+    }
+
+    @Override
+    public void batchRecountLikeCounts(List<Long> competitionIds) {
+        jdbcTemplate.batchUpdate(RECOUNT_LIKE_COUNT, competitionIds.stream()
+                .map(id -> new Object[]{id, id})
+                .toList());
+    }
+
+    @Override
+    public void forEachLikeOrderByUser(LikeRowConsumer consumer) {
+        jdbcTemplate.query(SELECT_LIKES_ORDER_BY_USER, rs -> {
+            consumer.accept(rs.getLong(1), rs.getLong(2));
+        });
+    }
+}
@@ -1,51 +1,83 @@
 package com.capstone.quicklendar.repository.competition;
 
 import com.capstone.quicklendar.domain.competition.Competition;
-import com.capstone.quicklendar.domain.competition.Category;
-import com.capstone.quicklendar.domain.competition.CompetitionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface CompetitionRepository extends JpaRepository<Competition, Long> {
+public interface CompetitionRepository extends JpaRepository<Competition, Long>, JpaSpecificationExecutor<Competition>,
+        CompetitionRepositoryCustom {
 
     @Query("SELECT DISTINCT c.host FROM Competition c")
     List<String> findDistinctHosts();
 
-    // 카테고리와 타입, 주최자로 필터링
-    List<Competition> findByCategoryAndCompetitionTypeAndHost(Category category, CompetitionType competitionType, String host);
+    // 주최 사전 재구성용 (id, host)
+    @Query("SELECT c.id, c.host FROM Competition c")
+    List<Object[]> findIdAndHost();
 
-    // 카테고리와 타입으로 필터링
-    List<Competition> findByCategoryAndCompetitionType(Category category, CompetitionType competitionType);
+    @Query("SELECT c.id FROM Competition c")
+    List<Long> findAllIds();
 
-    // 카테고리로 필터링
-    List<Competition> findByCategory(Category category);
+    // 대량 등록 시 자연 키(이름 + 주최 + 시작일) 중복 확인용
+    List<Competition> findByNameIn(Collection<String> names);
 
-    // 공모전 타입으로 필터링
-    List<Competition> findByCompetitionType(CompetitionType competitionType);
+    // 이미지 참조 수 (미사용 이미지 정리용)
+    long countByImage(String image);
 
-    // 주최자로 필터링
-    List<Competition> findByHost(String host);
+    @Query("SELECT DISTINCT c.image FROM Competition c WHERE c.image IS NOT NULL")
+    List<String> findDistinctImages();
 
-    // 공모전 시작 날짜, 종료 날짜, 신청 시작 날짜, 신청 종료 날짜로 오름차순/내림차순 정렬
-    List<Competition> findAllByOrderByStartDateAsc();
-    List<Competition> findAllByOrderByStartDateDesc();
-    List<Competition> findAllByOrderByEndDateAsc();
-    List<Competition> findAllByOrderByEndDateDesc();
-    List<Competition> findAllByOrderByRequestStartDateAsc();
-    List<Competition> findAllByOrderByRequestStartDateDesc();
-    List<Competition> findAllByOrderByRequestEndDateAsc();
-    List<Competition> findAllByOrderByRequestEndDateDesc();
+    // 특정 시각 이후 등록/수정된 공모전 조회 (인메모리 색인 warm start 보정용)
+    @Query("SELECT c FROM Competition c WHERE COALESCE(c.updatedAt, c.createdAt) >= :since")
+    List<Competition> findChangedSince(@Param("since") LocalDateTime since);
 
-    // 좋아요 수로 내림차순 정렬
-    List<Competition> findAllByOrderByLikesDesc();
+    // 좋아요 수 원자적 증감
+    @Modifying
+    @Query("UPDATE Competition c SET c.likeCount = c.likeCount + 1 WHERE c.id = :id")
+    int incrementLikeCount(@Param("id") Long id);
 
-    // 등록 날짜로 내림차순(최신순) 정렬
-    List<Competition> findAllByOrderByCreatedAtDesc();
+    @Modifying
+    @Query("UPDATE Competition c SET c.likeCount = c.likeCount - 1 WHERE c.id = :id AND c.likeCount > 0")
+    int decrementLikeCount(@Param("id") Long id);
+
+    // competition_likes 와 어긋난 like_count 보정, 보정된 행 수 반환
+    @Modifying
+    @Query(value = "UPDATE competitions c SET c.like_count = " +
+            "(SELECT COUNT(*) FROM competition_likes l WHERE l.competition_id = c.id) " +
+            "WHERE c.like_count <> (SELECT COUNT(*) FROM competition_likes l WHERE l.competition_id = c.id)",
+            nativeQuery = true)
+    int reconcileLikeCounts();
 
     // 특정 기간 내의 공모전 조회
     @Query("SELECT c FROM Competition c WHERE c.startDate >= :startDate AND c.endDate <= :endDate")
     List<Competition> findCompetitionsBetweenDates(LocalDate startDate, LocalDate endDate);
+
+    // 마감 색인/알림 예약용 (접수 마감일이 from 이후인 공모전의 id, 접수 마감일)
+    @Query("SELECT c.id, c.requestEndDate FROM Competition c WHERE c.requestEndDate >= :from")
+    List<Object[]> findIdAndRequestEndDateFrom(@Param("from") LocalDate from);
+
+    // 접수 마감일이 [from, to] 인 공모전 id, 마감일 -> id 순 (마감 색인 준비 전 대체 경로)
+    @Query("SELECT c.id FROM Competition c WHERE c.requestEndDate BETWEEN :from AND :to ORDER BY c.requestEndDate, c.id")
+    List<Long> findIdsByRequestEndDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    // 대회 기간이 [from, to] 와 겹치는 공모전 id (캘린더 색인 준비 전 대체 경로)
+    @Query("SELECT c.id FROM Competition c WHERE c.startDate <= :to AND c.endDate >= :from ORDER BY c.startDate, c.id")
+    List<Long> findIdsByEventPeriodOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 접수 기간이 [from, to] 와 겹치는 공모전 id (캘린더 색인 준비 전 대체 경로)
+    @Query("SELECT c.id FROM Competition c WHERE c.requestStartDate <= :to AND c.requestEndDate >= :from ORDER BY c.requestStartDate, c.id")
+    List<Long> findIdsByRequestPeriodOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 대회 기간이나 접수 기간이 [from, to] 와 겹치는 공모전 id, 색인과 같이 대회 시작일 -> id 순
+    @Query("SELECT c.id FROM Competition c WHERE (c.startDate <= :to AND c.endDate >= :from)"
+            + " OR (c.requestStartDate <= :to AND c.requestEndDate >= :from) ORDER BY c.startDate, c.id")
+    List<Long> findIdsByAnyPeriodOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
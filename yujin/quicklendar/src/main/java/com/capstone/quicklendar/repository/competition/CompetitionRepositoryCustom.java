@@ -0,0 +1,17 @@
+package com.capstone.quicklendar.repository.competition;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+import com.capstone.quicklendar.util.dto.CompetitionCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CompetitionRepositoryCustom {
+
+    // 조건에 맞는 공모전을 커서 다음 위치부터 정렬 기준에 따라 최대 limit 개 조회 (cursor 가 null 이면 처음부터)
+    List<Competition> findPageAfter(Specification<Competition> spec, CompetitionSort sort, CompetitionCursor cursor, int limit);
+
+    // 여러 공모전을 multi-row INSERT 한 문장으로 저장 (IDENTITY 라 Hibernate 배치가 되지 않는 대량 등록용), 저장된 행 수 반환
+    int insertAll(List<Competition> competitions);
+}
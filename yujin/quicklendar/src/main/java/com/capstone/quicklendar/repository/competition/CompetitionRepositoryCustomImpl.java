@@ -0,0 +1,118 @@
+package com.capstone.quicklendar.repository.competition;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+import com.capstone.quicklendar.util.dto.CompetitionCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompetitionRepositoryCustomImpl implements CompetitionRepositoryCustom {
+
+    private static final String INSERT_COMPETITIONS =
+            "INSERT INTO competitions (name, description, start_date, end_date, request_start_date, request_end_date, " +
+            "request_path, location, image, support, host, category, competition_type, created_at, updated_at) VALUES ";
+    private static final String INSERT_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CompetitionRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAll(List<Competition> competitions) {
+        if (competitions.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_COMPETITIONS);
+        List<Object> args = new ArrayList<>(competitions.size() * 15);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < competitions.size(); i++) {
+            Competition c = competitions.get(i);
+            sql.append(i == 0 ? "" : ", ").append(INSERT_VALUES);
+            args.add(c.getName());
+            args.add(c.getDescription());
+            args.add(Date.valueOf(c.getStartDate()));
+            args.add(Date.valueOf(c.getEndDate()));
+            args.add(Date.valueOf(c.getRequestStartDate()));
+            args.add(Date.valueOf(c.getRequestEndDate()));
+            args.add(c.getRequestPath());
+            args.add(c.getLocation());
+            args.add(c.getImage());
+            args.add(c.getSupport());
+            args.add(c.getHost());
+            args.add(c.getCategory().name());
+            args.add(c.getCompetitionType().name());
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @Override
+    public List<Competition> findPageAfter(Specification<Competition> spec, CompetitionSort sort, CompetitionCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Competition> query = cb.createQuery(Competition.class);
+        Root<Competition> root = query.from(Competition.class);
+
+        Path<Long> id = root.get("id");
+        Expression<?> sortKey = root.get(sort.getProperty());
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicates.add(filter);
+            }
+        }
+        if (cursor != null) {
+            predicates.add(after(cb, sort, sortKey, id, cursor));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        // (정렬 키, id) 를 같은 방향으로 정렬해야 커서 위치가 유일하게 결정됨
+        if (sort == CompetitionSort.ID) {
+            query.orderBy(cb.asc(id));
+        } else if (sort.isAscending()) {
+            query.orderBy(cb.asc(sortKey), cb.asc(id));
+        } else {
+            query.orderBy(cb.desc(sortKey), cb.desc(id));
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 키셋 조건: key > :key OR (key = :key AND id > :id) (내림차순이면 부등호 반대)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(CriteriaBuilder cb, CompetitionSort sort, Expression sortKey, Path<Long> id,
+                            CompetitionCursor cursor) {
+        if (sort == CompetitionSort.ID) {
+            return cb.greaterThan(id, cursor.getId());
+        }
+
+        Comparable key = cursor.getSortKey();
+        Predicate beyond = sort.isAscending() ? cb.greaterThan(sortKey, key) : cb.lessThan(sortKey, key);
+        Predicate tie = cb.and(
+                cb.equal(sortKey, key),
+                sort.isAscending() ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId()));
+        return cb.or(beyond, tie);
+    }
+}
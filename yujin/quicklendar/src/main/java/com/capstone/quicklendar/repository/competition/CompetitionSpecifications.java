@@ -0,0 +1,59 @@
+package com.capstone.quicklendar.repository.competition;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.util.dto.CompetitionSearchCondition;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// CompetitionSearchCondition -> JPA Specification 변환 (조건은 모두 DB 쿼리로 처리)
+public final class CompetitionSpecifications {
+
+    private CompetitionSpecifications() {
+    }
+
+    public static Specification<Competition> matches(CompetitionSearchCondition condition) {
+        return (root, query, cb) -> {
+            if (condition == null) {
+                return cb.and();
+            }
+            List<Predicate> predicates = new ArrayList<>();
+
+            // 동등 조건: idx_competitions_category_type_host / idx_competitions_type_host / idx_competitions_host
+            if (condition.getCategory() != null) {
+                predicates.add(cb.equal(root.get("category"), condition.getCategory()));
+            }
+            if (condition.getCompetitionType() != null) {
+                predicates.add(cb.equal(root.get("competitionType"), condition.getCompetitionType()));
+            }
+            if (condition.getHost() != null && !condition.getHost().isEmpty()) {
+                predicates.add(cb.equal(root.get("host"), condition.getHost()));
+            }
+
+            // 기간 조건: 각 날짜 컬럼의 (date, id) 인덱스 범위 스캔
+            addRange(predicates, root, cb, "startDate", condition.getStartDateFrom(), condition.getStartDateTo());
+            addRange(predicates, root, cb, "endDate", condition.getEndDateFrom(), condition.getEndDateTo());
+            addRange(predicates, root, cb, "requestStartDate",
+                    condition.getRequestStartDateFrom(), condition.getRequestStartDateTo());
+            addRange(predicates, root, cb, "requestEndDate",
+                    condition.getRequestEndDateFrom(), condition.getRequestEndDateTo());
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addRange(List<Predicate> predicates, Root<Competition> root, CriteriaBuilder cb,
+                                 String property, LocalDate from, LocalDate to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get(property), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get(property), to));
+        }
+    }
+}
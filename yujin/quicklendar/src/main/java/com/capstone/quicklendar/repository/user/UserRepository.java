@@ -2,9 +2,18 @@ package com.capstone.quicklendar.repository.user;
 
 import com.capstone.quicklendar.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email); // 이메일로 사용자 찾기
+
+    // 토큰 검증용 색인 구성 (활성 사용자 id, 토큰 버전이 0 이 아닌 사용자)
+    @Query("select u.id from User u where u.enabled = true")
+    List<Long> findEnabledIds();
+
+    @Query("select u.id, u.tokenVersion from User u where u.tokenVersion > 0")
+    List<Object[]> findTokenVersions();
 }
@@ -0,0 +1,161 @@
+package com.capstone.quicklendar.service.competition;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+import com.capstone.quicklendar.util.cache.TinyLfuCache;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공모전 조회 2단 캐시
+// 1단: 공모전 id -> CompetitionDTO (W-TinyLFU, 대략적인 바이트 크기로 무게 제한)
+// 2단: (조건, 정렬, 커서, 크기) -> 결과 id 목록 (W-TinyLFU, id 개수로 무게 제한)
+// 응답용: 공모전 id -> 직렬화된 CompetitionDTO JSON 바이트 (W-TinyLFU, 바이트 수로 무게 제한)
+// 변경 이벤트가 커밋된 뒤 영향을 받는 항목만 무효화
+// 좋아요는 상세 DTO 의 좋아요 수만 고치고, likes 정렬 목록 무효화는 모아 두었다가 주기적으로 한 번에 처리
+@Component
+public class CompetitionCache {
+
+    private final TinyLfuCache<Long, CompetitionDTO> details;
+    private final TinyLfuCache<CompetitionQueryKey, CompetitionQueryResult> queries;
+    private final TinyLfuCache<Long, byte[]> json;
+
+    // 좋아요 수가 바뀌어 likes 정렬 목록을 무효화해야 하는 공모전 id
+    private final Set<Long> pendingLikeChanges = ConcurrentHashMap.newKeySet();
+
+    public CompetitionCache(@Value("${competition.cache.detail.max-weight:33554432}") long detailMaxWeight,
+                            @Value("${competition.cache.detail.expected-entries:10000}") int detailExpectedEntries,
+                            @Value("${competition.cache.query.max-weight:200000}") long queryMaxWeight,
+                            @Value("${competition.cache.query.expected-entries:5000}") int queryExpectedEntries,
+                            @Value("${competition.cache.json.max-weight:16777216}") long jsonMaxWeight,
+                            @Value("${competition.cache.json.expected-entries:10000}") int jsonExpectedEntries) {
+        this.details = new TinyLfuCache<>("competitionDetails", detailMaxWeight, detailExpectedEntries,
+                CompetitionCache::estimateBytes);
+        this.queries = new TinyLfuCache<>("competitionQueries", queryMaxWeight, queryExpectedEntries,
+                result -> result.getIds().size() + 1);
+        this.json = new TinyLfuCache<>("competitionJson", jsonMaxWeight, jsonExpectedEntries, bytes -> bytes.length);
+    }
+
+    TinyLfuCache<Long, CompetitionDTO> details() {
+        return details;
+    }
+
+    TinyLfuCache<CompetitionQueryKey, CompetitionQueryResult> queries() {
+        return queries;
+    }
+
+    TinyLfuCache<Long, byte[]> json() {
+        return json;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        Long id = event.getCompetitionId();
+        Competition competition = event.getCompetition();
+        details.invalidate(id);
+        json.invalidate(id);
+
+        // 결과에 들어 있던 목록(수정/삭제 전 상태) + 새 상태가 조건에 맞는 목록만 무효화
+        queries.invalidateIf((key, result) -> result.getIds().contains(id)
+                || (competition != null && key.getCondition().matches(competition)));
+    }
+
+    // 좋아요 수만 바뀌므로 캐시된 DTO 는 버리지 않고 수만 고친 사본으로 교체 (JSON 바이트는 DTO 에서 다시 만듦)
+    // 드라이버가 반영 건수를 주지 않은 이벤트는 실제 수를 알 수 없으므로 DTO 를 버림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(CompetitionLikeChangedEvent event) {
+        Long id = event.getCompetitionId();
+        if (event.isConfirmed()) {
+            int delta = event.isLiked() ? 1 : -1;
+            details.computeIfPresent(id, cached -> {
+                CompetitionDTO updated = new CompetitionDTO(cached);
+                updated.setLikeCount(Math.max(0, cached.getLikeCount() + delta));
+                return updated;
+            });
+        } else {
+            details.invalidate(id);
+        }
+        json.invalidate(id);
+        pendingLikeChanges.add(id);
+    }
+
+    // 좋아요 수는 likes 정렬 순서에만 영향을 줌 (다른 목록은 id 목록이 그대로이고 DTO 만 다시 읽으면 됨)
+    // 이벤트마다 조회 캐시 전체를 훑지 않고, 모인 공모전 id 로 한 번만 훑음
+    @Scheduled(fixedDelayString = "${competition.cache.like-invalidation-ms:200}")
+    public void flushLikeInvalidations() {
+        if (pendingLikeChanges.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = new HashSet<>();
+        for (Long id : pendingLikeChanges) {
+            if (pendingLikeChanges.remove(id)) {
+                changed.add(id);
+            }
+        }
+
+        // 상세 캐시에 없는 공모전은 어느 조건에 맞는지 알 수 없으므로 likes 정렬 목록을 모두 무효화
+        List<CompetitionDTO> competitions = new ArrayList<>(changed.size());
+        boolean unknown = false;
+        for (Long id : changed) {
+            CompetitionDTO cached = details.peek(id);
+            if (cached == null) {
+                unknown = true;
+                break;
+            }
+            competitions.add(cached);
+        }
+
+        boolean invalidateAll = unknown;
+        queries.invalidateIf((key, result) -> key.getSort() == CompetitionSort.LIKES
+                && (invalidateAll || containsAny(result.getIds(), changed) || matchesAny(key, competitions)));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put(details.getName(), details.stats());
+        stats.put(queries.getName(), queries.stats());
+        stats.put(json.getName(), json.stats());
+        return stats;
+    }
+
+    private static boolean containsAny(List<Long> ids, Set<Long> changed) {
+        for (Long id : ids) {
+            if (changed.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAny(CompetitionQueryKey key, List<CompetitionDTO> competitions) {
+        for (CompetitionDTO competition : competitions) {
+            if (key.getCondition().matches(competition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // DTO 가 차지하는 힙 크기 추정 (문자열은 UTF-16 기준)
+    private static int estimateBytes(CompetitionDTO dto) {
+        return 256 + 2 * (length(dto.getName()) + length(dto.getDescription()) + length(dto.getRequestPath())
+                + length(dto.getLocation()) + length(dto.getSupport()) + length(dto.getHost())
+                + 4 * length(dto.getImageUrl()));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
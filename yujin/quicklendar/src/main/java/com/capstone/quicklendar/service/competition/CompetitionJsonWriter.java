@@ -0,0 +1,131 @@
+package com.capstone.quicklendar.service.competition;
+
+import com.capstone.quicklendar.domain.competition.CompetitionPeriod;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import com.capstone.quicklendar.util.dto.CompetitionSearchCondition;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 공모전 목록 응답을 미리 직렬화된 JSON 바이트 조각으로 조립해서 바로 출력 스트림에 씀
+// (요청마다 DTO 복사 + Jackson 직렬화를 반복하지 않도록 공모전별 JSON 을 캐시에 보관)
+@Component
+public class CompetitionJsonWriter {
+
+    private static final byte[] PAGE_PREFIX = "{\"competitions\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR_FIELD = ",\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HAS_NEXT_FIELD = ",\"hasNext\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.UTF_8);
+
+    private final CompetitionService competitionService;
+    private final CompetitionCache competitionCache;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CompetitionJsonWriter(CompetitionService competitionService, CompetitionCache competitionCache,
+                                 ObjectMapper objectMapper) {
+        this.competitionService = competitionService;
+        this.competitionCache = competitionCache;
+        this.objectMapper = objectMapper;
+    }
+
+    // GET /competitions 응답 (CompetitionDTO 배열)
+    public void writeCompetitions(CompetitionSearchCondition condition, String sortBy, OutputStream out) throws IOException {
+        writeArray(competitionService.findIds(condition, sortBy), out);
+    }
+
+    // GET /competitions/page 응답 (CompetitionPageDTO 와 같은 형태)
+    // 커서가 잘못된 경우 아무것도 쓰기 전에 IllegalArgumentException
+    public void writePage(CompetitionSearchCondition condition, String sortBy, String cursor, Integer size,
+                          OutputStream out) throws IOException {
+        CompetitionQueryResult result = competitionService.findPageIds(condition, sortBy, cursor, size);
+
+        out.write(PAGE_PREFIX);
+        writeArray(result.getIds(), out);
+        out.write(NEXT_CURSOR_FIELD);
+        out.write(result.getNextCursor() != null ? objectMapper.writeValueAsBytes(result.getNextCursor()) : NULL);
+        out.write(HAS_NEXT_FIELD);
+        out.write(result.isHasNext() ? TRUE : FALSE);
+        out.write('}');
+    }
+
+    // GET /competitions/search 응답
+    public void writeSearchResults(String keyword, Integer size, OutputStream out) throws IOException {
+        writeArray(competitionService.searchIdsByKeyword(keyword, size), out);
+    }
+
+    // GET /competitions/trending 응답
+    public void writeTrending(Integer size, OutputStream out) throws IOException {
+        writeArray(competitionService.findTrendingIds(size), out);
+    }
+
+    // GET /competitions/details/{id}/related 응답
+    public void writeRelated(Long id, Integer size, OutputStream out) throws IOException {
+        writeArray(competitionService.findRelatedIds(id, size), out);
+    }
+
+    // GET /competitions/closing-soon 응답
+    public void writeClosingSoon(int days, Integer size, OutputStream out) throws IOException {
+        writeArray(competitionService.findClosingSoonIds(days, size), out);
+    }
+
+    // GET /competitions/calendar 응답
+    public void writeCalendar(LocalDate from, LocalDate to, CompetitionPeriod period, OutputStream out) throws IOException {
+        writeArray(competitionService.findOverlappingIds(from, to, period), out);
+    }
+
+    // 공모전 하나의 JSON (없으면 null)
+    public byte[] getCompetitionJson(Long id) {
+        return getJson(List.of(id)).get(id);
+    }
+
+    private void writeArray(List<Long> ids, OutputStream out) throws IOException {
+        Map<Long, byte[]> json = getJson(ids);
+
+        out.write('[');
+        boolean first = true;
+        for (Long id : ids) {
+            byte[] bytes = json.get(id);
+            if (bytes == null) {
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            out.write(bytes);
+            first = false;
+        }
+        out.write(']');
+    }
+
+    // 캐시에 없는 공모전만 DTO 로 읽어 직렬화 후 저장 (삭제된 id 는 결과에서 빠짐)
+    private Map<Long, byte[]> getJson(List<Long> ids) {
+        return competitionCache.json().getAll(ids, missing -> {
+            Map<Long, byte[]> loaded = new LinkedHashMap<>();
+            for (CompetitionDTO dto : competitionService.getCompetitionDTOs(missing)) {
+                loaded.put(dto.getId(), serialize(dto));
+            }
+            return loaded;
+        });
+    }
+
+    private byte[] serialize(CompetitionDTO dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,15 +2,21 @@ package com.capstone.quicklendar.service.competition;
 
 import com.capstone.quicklendar.domain.competition.Competition;
 import com.capstone.quicklendar.domain.competition.CompetitionLike;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
 import com.capstone.quicklendar.domain.user.User;
 import com.capstone.quicklendar.repository.competition.CompetitionLikeRepository;
 import com.capstone.quicklendar.repository.competition.CompetitionRepository;
 import com.capstone.quicklendar.repository.user.UserRepository;
+import com.capstone.quicklendar.service.competition.like.CompetitionLikeIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class CompetitionLikeService {
@@ -18,16 +24,35 @@ public class CompetitionLikeService {
     private final CompetitionLikeRepository competitionLikeRepository;
     private final CompetitionRepository competitionRepository;
     private final UserRepository userRepository;
+    private final LikeEventPipeline likeEventPipeline;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CompetitionLikeIndex likeIndex;
 
     @Autowired
     public CompetitionLikeService(CompetitionLikeRepository competitionLikeRepository,
                                   CompetitionRepository competitionRepository,
-                                  UserRepository userRepository) {
+                                  UserRepository userRepository,
+                                  LikeEventPipeline likeEventPipeline,
+                                  ApplicationEventPublisher eventPublisher,
+                                  CompetitionLikeIndex likeIndex) {
         this.competitionLikeRepository = competitionLikeRepository;
         this.competitionRepository = competitionRepository;
         this.userRepository = userRepository;
+        this.likeEventPipeline = likeEventPipeline;
+        this.eventPublisher = eventPublisher;
+        this.likeIndex = likeIndex;
     }
 
+    // 비동기 좋아요/좋아요 취소 (write-behind 파이프라인에 등록, 큐가 가득 차면 false)
+    public boolean submitLike(Long competitionId, Long userId) {
+        return likeEventPipeline.submit(userId, competitionId, true);
+    }
+
+    public boolean submitUnlike(Long competitionId, Long userId) {
+        return likeEventPipeline.submit(userId, competitionId, false);
+    }
+
+    @Transactional
     public void likeCompetition(Long competitionId, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -38,9 +63,13 @@ public class CompetitionLikeService {
         if (!competitionLikeRepository.existsByUserAndCompetition(user, competition)) {
             CompetitionLike like = new CompetitionLike(user, competition);
             competitionLikeRepository.save(like);
+            competitionRepository.incrementLikeCount(competitionId);
+            eventPublisher.publishEvent(new CompetitionLikeChangedEvent(competitionId, user.getId(), true));
         }
+        likeEventPipeline.forget(user.getId(), competitionId);
     }
 
+    @Transactional
     public void unlikeCompetition(Long competitionId, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -50,15 +79,26 @@ public class CompetitionLikeService {
         CompetitionLike like = competitionLikeRepository.findByUserAndCompetition(user, competition)
                 .orElseThrow(() -> new IllegalArgumentException("Like not found"));
         competitionLikeRepository.delete(like);
+        competitionRepository.decrementLikeCount(competitionId);
+        eventPublisher.publishEvent(new CompetitionLikeChangedEvent(competitionId, user.getId(), false));
+        likeEventPipeline.forget(user.getId(), competitionId);
     }
 
-    public boolean isLiked(Long competitionId, String userEmail) {
-        Optional<User> user = userRepository.findByEmail(userEmail);
-        Optional<Competition> competition = competitionRepository.findById(competitionId);
+    // 좋아요 여부 (좋아요 색인 + 아직 DB 에 반영되지 않은 요청 상태)
+    public boolean isLiked(Long competitionId, Long userId) {
+        Boolean requested = likeEventPipeline.requestedState(userId, competitionId);
+        return requested != null ? requested : likeIndex.isLiked(userId, competitionId);
+    }
 
-        if (user.isPresent() && competition.isPresent()) {
-            return competitionLikeRepository.existsByUserAndCompetition(user.get(), competition.get());
+    // 여러 공모전의 좋아요 여부를 한 번에 조회 (목록 화면의 하트 표시용, 요청한 id 순서 유지)
+    public Map<Long, Boolean> areLiked(List<Long> competitionIds, Long userId) {
+        boolean[] liked = likeIndex.areLiked(userId, competitionIds);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (int i = 0; i < liked.length; i++) {
+            Long competitionId = competitionIds.get(i);
+            Boolean requested = likeEventPipeline.requestedState(userId, competitionId);
+            result.put(competitionId, requested != null ? requested : liked[i]);
         }
-        return false;
+        return result;
     }
 }
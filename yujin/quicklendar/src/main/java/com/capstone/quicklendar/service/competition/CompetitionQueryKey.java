@@ -0,0 +1,47 @@
+package com.capstone.quicklendar.service.competition;
+
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+import com.capstone.quicklendar.util.dto.CompetitionSearchCondition;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 목록 조회 결과 캐시 키: (필터 조건, 정렬, 커서, 페이지 크기)
+class CompetitionQueryKey {
+
+    private final CompetitionSearchCondition condition;
+    private final CompetitionSort sort;
+    private final List<Object> values;
+
+    CompetitionQueryKey(CompetitionSearchCondition condition, CompetitionSort sort, String cursor, Integer size) {
+        this.condition = condition != null ? condition : new CompetitionSearchCondition();
+        this.sort = sort;
+        this.values = Arrays.asList(
+                this.condition.getCategory(), this.condition.getCompetitionType(), this.condition.getHost(),
+                this.condition.getStartDateFrom(), this.condition.getStartDateTo(),
+                this.condition.getEndDateFrom(), this.condition.getEndDateTo(),
+                this.condition.getRequestStartDateFrom(), this.condition.getRequestStartDateTo(),
+                this.condition.getRequestEndDateFrom(), this.condition.getRequestEndDateTo(),
+                sort, cursor, size);
+    }
+
+    CompetitionSearchCondition getCondition() {
+        return condition;
+    }
+
+    CompetitionSort getSort() {
+        return sort;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompetitionQueryKey)) return false;
+        return values.equals(((CompetitionQueryKey) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+}
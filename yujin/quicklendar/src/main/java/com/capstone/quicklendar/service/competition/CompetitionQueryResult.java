@@ -0,0 +1,29 @@
+package com.capstone.quicklendar.service.competition;
+
+import java.util.List;
+
+// 목록 조회 결과 캐시 값: 공모전 id 목록과 다음 페이지 정보 (DTO 는 상세 캐시에서 조회)
+class CompetitionQueryResult {
+
+    private final List<Long> ids;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    CompetitionQueryResult(List<Long> ids, String nextCursor, boolean hasNext) {
+        this.ids = List.copyOf(ids);
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    List<Long> getIds() {
+        return ids;
+    }
+
+    String getNextCursor() {
+        return nextCursor;
+    }
+
+    boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -2,20 +2,44 @@ package com.capstone.quicklendar.service.competition;
 
 import com.capstone.quicklendar.domain.competition.Competition;
 import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionPeriod;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
 import com.capstone.quicklendar.domain.competition.CompetitionType;
 import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import com.capstone.quicklendar.repository.competition.CompetitionSpecifications;
+import com.capstone.quicklendar.service.competition.calendar.CompetitionCalendarIndex;
+import com.capstone.quicklendar.service.competition.host.CompetitionHostIndex;
+import com.capstone.quicklendar.service.competition.search.CompetitionSearchIndex;
+import com.capstone.quicklendar.service.competition.deadline.CompetitionDeadlineIndex;
+import com.capstone.quicklendar.service.competition.related.RelatedCompetitionIndex;
+import com.capstone.quicklendar.service.competition.trending.TrendingRanking;
+import com.capstone.quicklendar.service.image.ImageGarbageCollector;
 import com.capstone.quicklendar.util.ImageHandler;
+import com.capstone.quicklendar.util.dto.CompetitionCursor;
 import com.capstone.quicklendar.util.dto.CompetitionDTO;
 import com.capstone.quicklendar.util.dto.CompetitionFormDTO;
+import com.capstone.quicklendar.util.dto.CompetitionPageDTO;
+import com.capstone.quicklendar.util.dto.CompetitionSearchCondition;
+import com.capstone.quicklendar.util.dto.HostSuggestionDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +47,16 @@ public class CompetitionService {
 
     private final CompetitionRepository competitionRepository;
     private final ImageHandler imageHandler;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CompetitionSearchIndex searchIndex;
+    private final CompetitionCalendarIndex calendarIndex;
+    private final CompetitionHostIndex hostIndex;
+    private final TrendingRanking trendingRanking;
+    private final CompetitionDeadlineIndex deadlineIndex;
+    private final RelatedCompetitionIndex relatedIndex;
+    private final CompetitionCache competitionCache;
+    private final ImageGarbageCollector imageGarbageCollector;
 
     @Value("${image.base.url}")
     private String imageBaseUrl;
@@ -30,10 +64,32 @@ public class CompetitionService {
     @Value("${image.upload.dir}")
     private String uploadDir;
 
+    @Value("${competition.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${competition.page.max-size:100}")
+    private int maxPageSize;
+
     @Autowired
-    public CompetitionService(CompetitionRepository competitionRepository, ImageHandler imageHandler) {
+    public CompetitionService(CompetitionRepository competitionRepository, ImageHandler imageHandler,
+                              PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                              CompetitionSearchIndex searchIndex, CompetitionCalendarIndex calendarIndex,
+                              CompetitionCache competitionCache, ImageGarbageCollector imageGarbageCollector,
+                              CompetitionHostIndex hostIndex, TrendingRanking trendingRanking,
+                              CompetitionDeadlineIndex deadlineIndex, RelatedCompetitionIndex relatedIndex) {
         this.competitionRepository = competitionRepository;
         this.imageHandler = imageHandler;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.calendarIndex = calendarIndex;
+        this.hostIndex = hostIndex;
+        this.trendingRanking = trendingRanking;
+        this.deadlineIndex = deadlineIndex;
+        this.relatedIndex = relatedIndex;
+        this.competitionCache = competitionCache;
+        this.imageGarbageCollector = imageGarbageCollector;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     // 공모전 전체 조회
@@ -43,6 +99,168 @@ public class CompetitionService {
                 .collect(Collectors.toList());
     }
 
+    // 공모전 목록 커서 기반 페이지 조회 (cursor = 이전 페이지 마지막 항목의 (정렬 키, id))
+    // 결과 id 목록은 조회 캐시, DTO 는 상세 캐시에서 가져옴
+    public CompetitionPageDTO getCompetitionPage(CompetitionSearchCondition condition, String sortBy, String cursor, Integer size) {
+        CompetitionQueryResult result = findPageIds(condition, sortBy, cursor, size);
+        return new CompetitionPageDTO(getCompetitionDTOs(result.getIds()), result.getNextCursor(), result.isHasNext());
+    }
+
+    // 페이지의 공모전 id 목록 + 다음 커서 (조회 캐시)
+    CompetitionQueryResult findPageIds(CompetitionSearchCondition condition, String sortBy, String cursor, Integer size) {
+        CompetitionSort sort = CompetitionSort.from(sortBy);
+        int pageSize = resolvePageSize(size);
+        CompetitionQueryKey key = new CompetitionQueryKey(condition, sort, cursor, pageSize);
+
+        return competitionCache.queries().get(key, k -> {
+            long generation = competitionCache.details().currentGeneration();
+            CompetitionPageDTO page = readCompetitionPage(condition, sort, cursor, pageSize);
+            cacheDetails(page.getCompetitions(), generation);
+            return new CompetitionQueryResult(idsOf(page.getCompetitions()), page.getNextCursor(), page.isHasNext());
+        });
+    }
+
+    // 캐시를 거치지 않고 DB 에서 한 페이지 조회
+    private CompetitionPageDTO readCompetitionPage(CompetitionSearchCondition condition, CompetitionSort sort, String cursor, int pageSize) {
+        CompetitionCursor after = (cursor != null && !cursor.isEmpty()) ? CompetitionCursor.decode(cursor, sort) : null;
+
+        // 한 개 더 조회해서 다음 페이지 존재 여부 판단
+        List<Competition> competitions = competitionRepository.findPageAfter(
+                CompetitionSpecifications.matches(condition), sort, after, pageSize + 1);
+        boolean hasNext = competitions.size() > pageSize;
+        if (hasNext) {
+            competitions = competitions.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? CompetitionCursor.of(competitions.get(competitions.size() - 1), sort).encode() : null;
+        List<CompetitionDTO> dtos = competitions.stream()
+                .map(competition -> new CompetitionDTO(competition, imageBaseUrl))
+                .collect(Collectors.toList());
+
+        return new CompetitionPageDTO(dtos, nextCursor, hasNext);
+    }
+
+    // 커서부터 끝까지 페이지 단위로 읽어 chunkConsumer 에 전달 (페이지마다 별도 읽기 전용 트랜잭션, 캐시 미사용)
+    public void streamCompetitions(CompetitionSearchCondition condition, String sortBy, String cursor, Integer chunkSize,
+                                   Consumer<List<CompetitionDTO>> chunkConsumer) {
+        CompetitionSort sort = CompetitionSort.from(sortBy);
+        int pageSize = resolvePageSize(chunkSize);
+        String next = cursor;
+        CompetitionPageDTO page;
+        do {
+            String current = next;
+            page = readOnlyTransaction.execute(status -> readCompetitionPage(condition, sort, current, pageSize));
+            chunkConsumer.accept(page.getCompetitions());
+            next = page.getNextCursor();
+        } while (page.isHasNext());
+    }
+
+    // 키워드 전문 검색 (name, description, host, support, location / BM25 점수순)
+    public List<CompetitionDTO> searchByKeyword(String keyword, Integer size) {
+        return getCompetitionDTOs(searchIdsByKeyword(keyword, size));
+    }
+
+    List<Long> searchIdsByKeyword(String keyword, Integer size) {
+        return searchIndex.search(keyword, resolvePageSize(size));
+    }
+
+    // 최근 인기 공모전 (최근 좋아요/조회 수를 시간에 따라 감쇠한 점수순, 주기적으로 다시 계산된 순위)
+    public List<CompetitionDTO> getTrendingCompetitions(Integer size) {
+        return getCompetitionDTOs(findTrendingIds(size));
+    }
+
+    List<Long> findTrendingIds(Integer size) {
+        return trendingRanking.top(resolvePageSize(size));
+    }
+
+    // 상세 조회 기록 (최근 인기 순위용)
+    public void recordView(Long id) {
+        trendingRanking.recordView(id);
+    }
+
+    // 이 공모전을 좋아요한 사용자가 함께 좋아요한 공모전 (미리 계산된 유사도순)
+    public List<CompetitionDTO> getRelatedCompetitions(Long id, Integer size) {
+        return getCompetitionDTOs(findRelatedIds(id, size));
+    }
+
+    List<Long> findRelatedIds(Long id, Integer size) {
+        return relatedIndex.related(id, resolvePageSize(size));
+    }
+
+    // 오늘부터 days 일 안에 접수가 마감되는 공모전 (마감 임박순)
+    public List<CompetitionDTO> getClosingSoon(int days, Integer size) {
+        return getCompetitionDTOs(findClosingSoonIds(days, size));
+    }
+
+    List<Long> findClosingSoonIds(int days, Integer size) {
+        return deadlineIndex.closingWithin(days, resolvePageSize(size));
+    }
+
+    // 기간이 [from, to] 와 겹치는 공모전 조회 (캘린더 화면용, 시작일순)
+    public List<CompetitionDTO> getCompetitionsOverlapping(LocalDate from, LocalDate to, CompetitionPeriod period) {
+        return getCompetitionDTOs(findOverlappingIds(from, to, period));
+    }
+
+    List<Long> findOverlappingIds(LocalDate from, LocalDate to, CompetitionPeriod period) {
+        return calendarIndex.findOverlapping(from, to, period);
+    }
+
+    // 공모전 상세 DTO 조회 (상세 캐시)
+    public Optional<CompetitionDTO> getCompetitionDTO(Long id) {
+        return Optional.ofNullable(competitionCache.details().get(id, key -> competitionRepository.findById(key)
+                .map(competition -> new CompetitionDTO(competition, imageBaseUrl))
+                .orElse(null)));
+    }
+
+    // id 순서대로 DTO 조회, 캐시에 없는 것만 한 번에 DB 조회 (삭제된 id 는 제외)
+    public List<CompetitionDTO> getCompetitionDTOs(List<Long> ids) {
+        Map<Long, CompetitionDTO> found = competitionCache.details().getAll(ids, missing ->
+                competitionRepository.findAllById(missing).stream()
+                        .collect(Collectors.toMap(Competition::getId, competition -> new CompetitionDTO(competition, imageBaseUrl))));
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 조건 + 정렬 조합 DTO 목록 조회 (조회 캐시 + 상세 캐시)
+    public List<CompetitionDTO> searchCompetitionDTOs(CompetitionSearchCondition condition, String sortBy) {
+        return getCompetitionDTOs(findIds(condition, sortBy));
+    }
+
+    // 조건 + 정렬 조합의 공모전 id 목록 (조회 캐시)
+    List<Long> findIds(CompetitionSearchCondition condition, String sortBy) {
+        CompetitionSort sort = CompetitionSort.from(sortBy);
+        CompetitionQueryKey key = new CompetitionQueryKey(condition, sort, null, null);
+
+        return competitionCache.queries().get(key, k -> {
+            long generation = competitionCache.details().currentGeneration();
+            List<CompetitionDTO> dtos = searchCompetitions(condition, sortBy).stream()
+                    .map(competition -> new CompetitionDTO(competition, imageBaseUrl))
+                    .collect(Collectors.toList());
+            cacheDetails(dtos, generation);
+            return new CompetitionQueryResult(idsOf(dtos), null, false);
+        }).getIds();
+    }
+
+    private void cacheDetails(List<CompetitionDTO> dtos, long generation) {
+        Map<Long, CompetitionDTO> entries = new LinkedHashMap<>();
+        dtos.forEach(dto -> entries.put(dto.getId(), dto));
+        competitionCache.details().putAllIfUnchanged(entries, generation);
+    }
+
+    private static List<Long> idsOf(List<CompetitionDTO> dtos) {
+        return dtos.stream().map(CompetitionDTO::getId).collect(Collectors.toList());
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
     // 공모전 등록
     public CompetitionDTO addCompetition(CompetitionFormDTO competitionFormDTO, String imagePath) {
 
@@ -61,7 +279,8 @@ public class CompetitionService {
         competition.setCompetitionType(competitionFormDTO.getCompetitionType());
         competition.setImage(imagePath);
 
-        competitionRepository.save(competition);
+        saveUnique(competition);
+        eventPublisher.publishEvent(CompetitionChangedEvent.created(competition));
 
         return new CompetitionDTO(competition, imageBaseUrl);
     }
@@ -84,11 +303,17 @@ public class CompetitionService {
         existingCompetition.setCategory(competitionFormDTO.getCategory());
         existingCompetition.setCompetitionType(competitionFormDTO.getCompetitionType());
 
+        String previousImage = existingCompetition.getImage();
         if (imagePath != null) {
             existingCompetition.setImage(imagePath);
         }
 
-        return competitionRepository.save(existingCompetition);
+        Competition savedCompetition = saveUnique(existingCompetition);
+        eventPublisher.publishEvent(CompetitionChangedEvent.updated(savedCompetition));
+        if (previousImage != null && !previousImage.equals(savedCompetition.getImage())) {
+            imageGarbageCollector.release(previousImage);
+        }
+        return savedCompetition;
     }
 
     // 공모전 상세 정보 가져오기
@@ -98,41 +323,30 @@ public class CompetitionService {
 
     // 카테고리, 타입, 주최자에 따른 필터링된 공모전 조회
     public List<Competition> filterCompetitions(Category category, CompetitionType competitionType, String host) {
-        if (category != null && competitionType != null && host != null && !host.isEmpty()) {
-            return competitionRepository.findByCategoryAndCompetitionTypeAndHost(category, competitionType, host);
-        } else if (category != null && competitionType != null) {
-            return competitionRepository.findByCategoryAndCompetitionType(category, competitionType);
-        } else if (category != null) {
-            return competitionRepository.findByCategory(category);
-        } else if (competitionType != null) {
-            return competitionRepository.findByCompetitionType(competitionType);
-        } else if (host != null && !host.isEmpty()) {
-            return competitionRepository.findByHost(host);
-        } else {
-            return competitionRepository.findAll();
-        }
-    }
-
-    // 모든 공모전의 host 목록 조회 (중복 제거)
-    public List<String> getAllHosts() {
-        return competitionRepository.findDistinctHosts();
+        return searchCompetitions(new CompetitionSearchCondition(category, competitionType, host), null);
     }
 
-    // 정렬된 공모전 목록 조회
-    public List<Competition> getCompetitionsSortedByStartDate(boolean ascending) {
-        return ascending ? competitionRepository.findAllByOrderByStartDateAsc() : competitionRepository.findAllByOrderByStartDateDesc();
+    // 조건 + 정렬 조합 조회 (필터와 정렬 모두 DB 에서 처리)
+    public List<Competition> searchCompetitions(CompetitionSearchCondition condition, String sortBy) {
+        return competitionRepository.findAll(CompetitionSpecifications.matches(condition), toSort(CompetitionSort.from(sortBy)));
     }
 
-    public List<Competition> getCompetitionsSortedByEndDate(boolean ascending) {
-        return ascending ? competitionRepository.findAllByOrderByEndDateAsc() : competitionRepository.findAllByOrderByEndDateDesc();
+    private Sort toSort(CompetitionSort sort) {
+        Sort.Direction direction = sort.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (sort == CompetitionSort.ID) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sort.getProperty()).and(Sort.by(direction, "id"));
     }
 
-    public List<Competition> getCompetitionsSortedByRequestStartDate(boolean ascending) {
-        return ascending ? competitionRepository.findAllByOrderByRequestStartDateAsc() : competitionRepository.findAllByOrderByRequestStartDateDesc();
+    // 모든 공모전의 host 목록 조회 (중복 제거, 주최 사전에서 조회)
+    public List<String> getAllHosts() {
+        return hostIndex.getHosts();
     }
 
-    public List<Competition> getCompetitionsSortedByRequestEndDate(boolean ascending) {
-        return ascending ? competitionRepository.findAllByOrderByRequestEndDateAsc() : competitionRepository.findAllByOrderByRequestEndDateDesc();
+    // 주최 자동완성 (접두/중간 일치, 공모전 수 내림차순)
+    public List<HostSuggestionDTO> suggestHosts(String query, Integer size) {
+        return hostIndex.suggest(query, size != null ? size : 10);
     }
 
     // 특정 기간 동안의 공모전 조회
@@ -140,52 +354,30 @@ public class CompetitionService {
         return competitionRepository.findCompetitionsBetweenDates(startDate, endDate);
     }
 
-    // 정렬 조건에 따라 공모전 목록 반환
-    public List<Competition> getCompetitionsSortedBy(String sortBy) {
-        switch (sortBy) {
-            case "likes":
-                return competitionRepository.findAllByOrderByLikesDesc();
-            case "createdAt":
-                return competitionRepository.findAllByOrderByCreatedAtDesc();
-            case "startDateAsc":
-                return competitionRepository.findAllByOrderByStartDateAsc();
-            case "startDateDesc":
-                return competitionRepository.findAllByOrderByStartDateDesc();
-            case "endDateAsc":
-                return competitionRepository.findAllByOrderByEndDateAsc();
-            case "endDateDesc":
-                return competitionRepository.findAllByOrderByEndDateDesc();
-            case "requestStartDateAsc":
-                return competitionRepository.findAllByOrderByRequestStartDateAsc();
-            case "requestStartDateDesc":
-                return competitionRepository.findAllByOrderByRequestStartDateDesc();
-            case "requestEndDateAsc":
-                return competitionRepository.findAllByOrderByRequestEndDateAsc();
-            case "requestEndDateDesc":
-                return competitionRepository.findAllByOrderByRequestEndDateDesc();
-            default:
-                return competitionRepository.findAll();
-        }
-    }
-
     // 공모전 추가
     public Competition addCompetition(Competition competition) {
-        return competitionRepository.save(competition);
+        Competition savedCompetition = saveUnique(competition);
+        eventPublisher.publishEvent(CompetitionChangedEvent.created(savedCompetition));
+        return savedCompetition;
+    }
+
+    // 같은 공모전(이름 + 주최 + 시작일, uk_competitions_name_host_start_date)이 이미 있으면 IllegalStateException
+    private Competition saveUnique(Competition competition) {
+        try {
+            return competitionRepository.saveAndFlush(competition);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 등록된 공모전입니다. (이름, 주최, 시작일 중복)", e);
+        }
     }
 
     // 공모전 삭제
     public void deleteCompetition(Long id) {
+        String image = competitionRepository.findById(id).map(Competition::getImage).orElse(null);
         competitionRepository.deleteById(id);
-    }
-
-    // 좋아요 수로 내림차순 정렬된 공모전 목록 조회
-    public List<Competition> getCompetitionsSortedByLikes() {
-        return competitionRepository.findAll(Sort.by(Sort.Direction.DESC, "likes"));
-    }
-
-    // 등록일(createdAt)로 내림차순 정렬된 공모전 목록 조회
-    public List<Competition> getCompetitionsSortedByCreatedAt() {
-        return competitionRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
+        eventPublisher.publishEvent(CompetitionChangedEvent.deleted(id));
+        if (image != null) {
+            imageGarbageCollector.release(image);
+        }
     }
 
 
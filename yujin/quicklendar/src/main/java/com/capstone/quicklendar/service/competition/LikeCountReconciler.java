@@ -0,0 +1,31 @@
+package com.capstone.quicklendar.service.competition;
+
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// competitions.like_count 를 competition_likes 실제 건수에 맞춰 주기적으로 보정
+@Component
+public class LikeCountReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeCountReconciler.class);
+
+    private final CompetitionRepository competitionRepository;
+
+    public LikeCountReconciler(CompetitionRepository competitionRepository) {
+        this.competitionRepository = competitionRepository;
+    }
+
+    @Scheduled(cron = "${competition.like-count.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public int reconcile() {
+        int repaired = competitionRepository.reconcileLikeCounts();
+        if (repaired > 0) {
+            log.warn("like_count drift repaired for {} competitions", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,345 @@
+package com.capstone.quicklendar.service.competition;
+
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.repository.competition.CompetitionLikeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 좋아요/좋아요 취소 이벤트를 큐에 모았다가 주기적으로 JDBC 배치로 반영하는 write-behind 파이프라인
+@Component
+public class LikeEventPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeEventPipeline.class);
+    private static final long QUEUE_FULL_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final CompetitionLikeRepository competitionLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<LikeEvent> queue;
+    private final int batchSize;
+    private final long offerTimeoutNanos;
+
+    // 아직 DB 에 반영되지 않은 마지막 요청 상태 (중복 탭 멱등 처리용)
+    // 큐에 넣는 것과 같은 compute 안에서 바꾸므로 키별로 큐 순서 = 시퀀스 순서, 반영이 끝나면 플러셔가 제거
+    private final Map<LikeKey, PendingState> lastRequestedState = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "like-event-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean accepting = true;
+
+    private final AtomicLong acceptedEvents = new AtomicLong();
+    private final AtomicLong duplicateEvents = new AtomicLong();
+    private final AtomicLong rejectedEvents = new AtomicLong();
+    private final AtomicLong coalescedEvents = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+
+    public LikeEventPipeline(CompetitionLikeRepository competitionLikeRepository,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${competition.like.pipeline.queue-capacity:10000}") int queueCapacity,
+                             @Value("${competition.like.pipeline.batch-size:500}") int batchSize,
+                             @Value("${competition.like.pipeline.flush-interval-ms:200}") long flushIntervalMillis,
+                             @Value("${competition.like.pipeline.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.competitionLikeRepository = competitionLikeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 이벤트 등록. 큐가 가득 차 offer-timeout 안에 넣지 못하면 false (호출 측에서 429 응답)
+    public boolean submit(Long userId, Long competitionId, boolean liked) {
+        if (!accepting) {
+            rejectedEvents.incrementAndGet();
+            return false;
+        }
+
+        LikeKey key = new LikeKey(userId, competitionId);
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (true) {
+            Enqueue result = enqueue(key, liked);
+            if (result == Enqueue.DUPLICATE) {
+                duplicateEvents.incrementAndGet();
+                return true;
+            }
+            if (result == Enqueue.ACCEPTED) {
+                acceptedEvents.incrementAndGet();
+                return true;
+            }
+            // compute 안에서는 기다리지 않고, 큐가 가득 차 있으면 잠깐 쉬었다가 offer-timeout 까지 다시 시도
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                rejectedEvents.incrementAndGet();
+                return false;
+            }
+            LockSupport.parkNanos(QUEUE_FULL_RETRY_NANOS);
+        }
+    }
+
+    // 같은 키의 중복 판정, 시퀀스 발급, 큐 넣기를 한 compute 안에서 처리 (동시에 들어온 탭끼리 순서가 뒤바뀌지 않음)
+    private Enqueue enqueue(LikeKey key, boolean liked) {
+        Enqueue[] result = new Enqueue[1];
+        lastRequestedState.compute(key, (k, current) -> {
+            if (current != null && current.liked == liked) {
+                result[0] = Enqueue.DUPLICATE;
+                return current;
+            }
+            PendingState next = new PendingState(liked, sequence.incrementAndGet());
+            if (!queue.offer(new LikeEvent(k, next))) {
+                result[0] = Enqueue.FULL;
+                return current;
+            }
+            result[0] = Enqueue.ACCEPTED;
+            return next;
+        });
+        return result[0];
+    }
+
+    // 동기 경로(CompetitionLikeService)에서 상태를 바꿨을 때 캐시된 상태 무효화
+    public void forget(Long userId, Long competitionId) {
+        lastRequestedState.remove(new LikeKey(userId, competitionId));
+    }
+
+    // 아직 DB 에 반영되지 않았을 수 있는 마지막 요청 상태 (없으면 null)
+    public Boolean requestedState(Long userId, Long competitionId) {
+        PendingState state = lastRequestedState.get(new LikeKey(userId, competitionId));
+        return state == null ? null : state.liked;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("like event flush failed", e);
+        }
+    }
+
+    // 큐를 비울 때까지 batchSize 단위로 반영
+    void flush() {
+        List<LikeEvent> drained = new ArrayList<>(batchSize);
+        while (queue.drainTo(drained, batchSize) > 0) {
+            long started = System.nanoTime();
+            applyBatch(coalesce(drained));
+            recordFlush(System.nanoTime() - started);
+            drained.clear();
+        }
+    }
+
+    // 같은 (user, competition) 에 대한 이벤트는 마지막 상태만 남김 (좋아요→취소 토글 병합)
+    private Map<LikeKey, PendingState> coalesce(List<LikeEvent> events) {
+        Map<LikeKey, PendingState> desired = new LinkedHashMap<>();
+        for (LikeEvent event : events) {
+            if (desired.put(event.key, event.state) != null) {
+                coalescedEvents.incrementAndGet();
+            }
+        }
+        return desired;
+    }
+
+    private void applyBatch(Map<LikeKey, PendingState> desired) {
+        List<long[]> inserts = new ArrayList<>();
+        List<long[]> deletes = new ArrayList<>();
+        desired.forEach((key, state) -> (state.liked ? inserts : deletes).add(new long[]{key.userId, key.competitionId}));
+
+        List<CompetitionLikeChangedEvent> changes;
+        try {
+            changes = transactionTemplate.execute(status -> write(inserts, deletes));
+        } catch (RuntimeException e) {
+            // 배치 중 하나라도 실패하면 건별로 다시 시도해 나머지는 반영
+            flushFailures.incrementAndGet();
+            log.warn("like batch of {} events failed, retrying one by one", desired.size(), e);
+            desired.forEach((key, state) -> {
+                List<long[]> single = List.of(new long[]{key.userId, key.competitionId});
+                try {
+                    publish(transactionTemplate.execute(status ->
+                            write(state.liked ? single : List.of(), state.liked ? List.of() : single)));
+                } catch (RuntimeException retryFailure) {
+                    log.error("dropping like event user={} competition={} seq={}", key.userId, key.competitionId,
+                            state.sequence, retryFailure);
+                }
+                settle(key, state);
+            });
+            return;
+        }
+        publish(changes);
+        desired.forEach(this::settle);
+    }
+
+    // 반영한 상태가 아직 마지막 요청이면 제거 (그 사이 새 탭이 들어왔으면 시퀀스가 달라 그대로 둠)
+    private void settle(LikeKey key, PendingState state) {
+        lastRequestedState.remove(key, state);
+    }
+
+    // 반영된(또는 반영 여부를 알 수 없는) 좋아요 변경 목록 반환
+    private List<CompetitionLikeChangedEvent> write(List<long[]> inserts, List<long[]> deletes) {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        Set<Long> unknown = new LinkedHashSet<>();
+        List<CompetitionLikeChangedEvent> changes = new ArrayList<>();
+
+        if (!inserts.isEmpty()) {
+            collectDeltas(inserts, competitionLikeRepository.batchInsertLikes(inserts), true, deltas, unknown, changes);
+        }
+        if (!deletes.isEmpty()) {
+            collectDeltas(deletes, competitionLikeRepository.batchDeleteLikes(deletes), false, deltas, unknown, changes);
+        }
+
+        List<long[]> adjustments = new ArrayList<>();
+        deltas.forEach((competitionId, delta) -> {
+            if (delta != 0 && !unknown.contains(competitionId)) {
+                adjustments.add(new long[]{competitionId, delta});
+            }
+        });
+        if (!adjustments.isEmpty()) {
+            competitionLikeRepository.batchAdjustLikeCounts(adjustments);
+        }
+        if (!unknown.isEmpty()) {
+            competitionLikeRepository.batchRecountLikeCounts(new ArrayList<>(unknown));
+        }
+        return changes;
+    }
+
+    // 커밋 후 변경 이벤트 발행
+    private void publish(List<CompetitionLikeChangedEvent> changes) {
+        if (changes != null) {
+            changes.forEach(eventPublisher::publishEvent);
+        }
+    }
+
+    // 드라이버가 행별 건수를 주지 않는 경우(SUCCESS_NO_INFO)에는 해당 공모전을 재집계 대상으로 분류
+    private void collectDeltas(List<long[]> pairs, int[] counts, boolean liked, Map<Long, Long> deltas, Set<Long> unknown,
+                               List<CompetitionLikeChangedEvent> changes) {
+        for (int i = 0; i < pairs.size(); i++) {
+            long userId = pairs.get(i)[0];
+            long competitionId = pairs.get(i)[1];
+            int count = i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+            if (count == Statement.SUCCESS_NO_INFO) {
+                unknown.add(competitionId);
+                changes.add(new CompetitionLikeChangedEvent(competitionId, userId, liked, false));
+            } else if (count > 0) {
+                deltas.merge(competitionId, liked ? (long) count : -(long) count, Long::sum);
+                changes.add(new CompetitionLikeChangedEvent(competitionId, userId, liked));
+            }
+        }
+    }
+
+    private void recordFlush(long elapsedNanos) {
+        flushCount.incrementAndGet();
+        lastFlushNanos.set(elapsedNanos);
+        totalFlushNanos.addAndGet(elapsedNanos);
+        maxFlushNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public Map<String, Object> stats() {
+        long flushes = flushCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", queue.size());
+        stats.put("queueRemainingCapacity", queue.remainingCapacity());
+        stats.put("accepted", acceptedEvents.get());
+        stats.put("duplicates", duplicateEvents.get());
+        stats.put("rejected", rejectedEvents.get());
+        stats.put("coalesced", coalescedEvents.get());
+        stats.put("flushes", flushes);
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("lastFlushMillis", lastFlushNanos.get() / 1_000_000.0);
+        stats.put("maxFlushMillis", maxFlushNanos.get() / 1_000_000.0);
+        stats.put("avgFlushMillis", flushes == 0 ? 0.0 : totalFlushNanos.get() / 1_000_000.0 / flushes);
+        return stats;
+    }
+
+    // 종료 시 새 이벤트를 막고 큐에 남은 이벤트를 모두 반영
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("like event flusher did not stop in time");
+        }
+        flush();
+        log.info("like event pipeline stopped, {} events flushed in total", acceptedEvents.get());
+    }
+
+    private static final class LikeKey {
+        private final long userId;
+        private final long competitionId;
+
+        private LikeKey(long userId, long competitionId) {
+            this.userId = userId;
+            this.competitionId = competitionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LikeKey)) return false;
+            LikeKey other = (LikeKey) o;
+            return userId == other.userId && competitionId == other.competitionId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, competitionId);
+        }
+    }
+
+    private static final class LikeEvent {
+        private final LikeKey key;
+        private final PendingState state;
+
+        private LikeEvent(LikeKey key, PendingState state) {
+            this.key = key;
+            this.state = state;
+        }
+    }
+
+    // 요청된 상태와 발급 순서, equals 를 두지 않아 remove(key, state) 는 같은 요청일 때만 지움
+    private static final class PendingState {
+        private final boolean liked;
+        private final long sequence;
+
+        private PendingState(boolean liked, long sequence) {
+            this.liked = liked;
+            this.sequence = sequence;
+        }
+    }
+
+    private enum Enqueue {
+        ACCEPTED, DUPLICATE, FULL
+    }
+}
@@ -0,0 +1,290 @@
+package com.capstone.quicklendar.service.competition.calendar;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionPeriod;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import com.capstone.quicklendar.util.dto.CompetitionCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 캘린더 화면용 기간 겹침(overlap) 조회 인메모리 색인
+// 대회 기간/접수 기간을 각각 월 버킷에 등록해 두고, 조회 구간에 걸친 버킷만 훑어 겹치는 공모전을 찾음
+// 등록/수정/삭제 이벤트로 증분 갱신
+@Component
+public class CompetitionCalendarIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionCalendarIndex.class);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 이보다 긴 기간은 버킷 대신 longIntervals 에 두고 매 조회마다 직접 비교
+    private static final int MAX_BUCKET_SPAN_MONTHS = 24;
+
+    private final CompetitionRepository competitionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Buckets eventBuckets = new Buckets();
+    private final Buckets requestBuckets = new Buckets();
+
+    private volatile boolean ready;
+
+    public CompetitionCalendarIndex(CompetitionRepository competitionRepository) {
+        this.competitionRepository = competitionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+        rebuild();
+        ready = true;
+        log.info("competition calendar index ready: {} competitions in {} ms", size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            remove(event.getCompetitionId());
+        } else {
+            index(event.getCompetition());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Competition competition) {
+        Entry entry = new Entry(competition.getId(),
+                Interval.of(competition.getStartDate(), competition.getEndDate()),
+                Interval.of(competition.getRequestStartDate(), competition.getRequestEndDate()));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(entry.id);
+            entries.put(entry.id, entry);
+            eventBuckets.add(entry.id, entry.event);
+            requestBuckets.add(entry.id, entry.request);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long competitionId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(competitionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // [from, to] (양 끝 포함) 와 기간이 겹치는 공모전 id, 시작일 -> id 순
+    // 색인이 준비되기 전에는 DB 에서 조회
+    public List<Long> findOverlapping(LocalDate from, LocalDate to, CompetitionPeriod period) {
+        if (!ready) {
+            return findOverlappingFromDatabase(from, to, period);
+        }
+
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        List<Entry> matched = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            if (period.includesEvent()) {
+                eventBuckets.collect(monthOf(fromDay), monthOf(toDay), candidates);
+            }
+            if (period.includesRequest()) {
+                requestBuckets.collect(monthOf(fromDay), monthOf(toDay), candidates);
+            }
+            for (Long id : candidates) {
+                Entry entry = entries.get(id);
+                if ((period.includesEvent() && entry.event != null && entry.event.overlaps(fromDay, toDay))
+                        || (period.includesRequest() && entry.request != null && entry.request.overlaps(fromDay, toDay))) {
+                    matched.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort((a, b) -> {
+            int compare = Long.compare(a.sortKey(period), b.sortKey(period));
+            return compare != 0 ? compare : Long.compare(a.id, b.id);
+        });
+        List<Long> ids = new ArrayList<>(matched.size());
+        matched.forEach(entry -> ids.add(entry.id));
+        return ids;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // DB 전체를 id 순 키셋 페이지로 읽어 재색인
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            eventBuckets.clear();
+            requestBuckets.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        CompetitionCursor cursor = null;
+        List<Competition> batch;
+        do {
+            batch = competitionRepository.findPageAfter(null, CompetitionSort.ID, cursor, REBUILD_BATCH_SIZE);
+            batch.forEach(this::index);
+            if (!batch.isEmpty()) {
+                cursor = CompetitionCursor.of(batch.get(batch.size() - 1), CompetitionSort.ID);
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    // 색인과 같은 순서 (ANY 는 어느 기간으로 겹치든 대회 시작일 -> id 순)
+    private List<Long> findOverlappingFromDatabase(LocalDate from, LocalDate to, CompetitionPeriod period) {
+        if (period.includesEvent() && period.includesRequest()) {
+            return competitionRepository.findIdsByAnyPeriodOverlapping(from, to);
+        }
+        if (period.includesEvent()) {
+            return competitionRepository.findIdsByEventPeriodOverlapping(from, to);
+        }
+        return competitionRepository.findIdsByRequestPeriodOverlapping(from, to);
+    }
+
+    private void removeLocked(Long competitionId) {
+        Entry previous = entries.remove(competitionId);
+        if (previous != null) {
+            eventBuckets.remove(previous.id, previous.event);
+            requestBuckets.remove(previous.id, previous.request);
+        }
+    }
+
+    // epoch day -> 1970-01 기준 월 번호
+    private static int monthOf(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return (date.getYear() - 1970) * 12 + date.getMonthValue() - 1;
+    }
+
+    // 시작일 ~ 종료일 (epoch day, 양 끝 포함)
+    private static final class Interval {
+        private final long start;
+        private final long end;
+
+        private Interval(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        // 한쪽 날짜만 있으면 그 하루짜리 기간, 둘 다 없으면 색인하지 않음
+        private static Interval of(LocalDate start, LocalDate end) {
+            if (start == null && end == null) {
+                return null;
+            }
+            long startDay = (start != null ? start : end).toEpochDay();
+            long endDay = (end != null ? end : start).toEpochDay();
+            return new Interval(Math.min(startDay, endDay), Math.max(startDay, endDay));
+        }
+
+        private boolean overlaps(long from, long to) {
+            return start <= to && end >= from;
+        }
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final Interval event;
+        private final Interval request;
+
+        private Entry(long id, Interval event, Interval request) {
+            this.id = id;
+            this.event = event;
+            this.request = request;
+        }
+
+        private long sortKey(CompetitionPeriod period) {
+            if (period == CompetitionPeriod.REQUEST) {
+                return request != null ? request.start : Long.MAX_VALUE;
+            }
+            if (event != null) {
+                return event.start;
+            }
+            return period == CompetitionPeriod.ANY && request != null ? request.start : Long.MAX_VALUE;
+        }
+    }
+
+    // 월 번호 -> 그 달과 겹치는 공모전 id
+    private static final class Buckets {
+        private final Map<Integer, Set<Long>> byMonth = new HashMap<>();
+        private final Map<Long, Interval> longIntervals = new HashMap<>();
+
+        private void add(long id, Interval interval) {
+            if (interval == null) {
+                return;
+            }
+            int first = monthOf(interval.start);
+            int last = monthOf(interval.end);
+            if (last - first >= MAX_BUCKET_SPAN_MONTHS) {
+                longIntervals.put(id, interval);
+                return;
+            }
+            for (int month = first; month <= last; month++) {
+                byMonth.computeIfAbsent(month, key -> new HashSet<>()).add(id);
+            }
+        }
+
+        private void remove(long id, Interval interval) {
+            if (interval == null) {
+                return;
+            }
+            if (longIntervals.remove(id) != null) {
+                return;
+            }
+            for (int month = monthOf(interval.start), last = monthOf(interval.end); month <= last; month++) {
+                Set<Long> ids = byMonth.get(month);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    byMonth.remove(month);
+                }
+            }
+        }
+
+        private void collect(int firstMonth, int lastMonth, Set<Long> result) {
+            for (int month = firstMonth; month <= lastMonth; month++) {
+                Set<Long> ids = byMonth.get(month);
+                if (ids != null) {
+                    result.addAll(ids);
+                }
+            }
+            result.addAll(longIntervals.keySet());
+        }
+
+        private void clear() {
+            byMonth.clear();
+            longIntervals.clear();
+        }
+    }
+}
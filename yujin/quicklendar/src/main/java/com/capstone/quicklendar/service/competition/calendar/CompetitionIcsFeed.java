@@ -0,0 +1,284 @@
+package com.capstone.quicklendar.service.competition.calendar;
+
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.repository.user.UserRepository;
+import com.capstone.quicklendar.service.competition.CompetitionService;
+import com.capstone.quicklendar.service.competition.like.CompetitionLikeIndex;
+import com.capstone.quicklendar.service.user.TokenVersionRegistry;
+import com.capstone.quicklendar.util.cache.TinyLfuCache;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 사용자별 좋아요한 공모전 iCalendar 구독 피드 (외부 캘린더 앱용)
+// 사용자마다 좋아요 집합 버전을 두고 ETag 로 사용 -> 바뀌지 않았으면 캐시/DB 를 건드리지 않고 304
+// 완성된 피드 바이트는 (사용자 -> 버전, 바이트) 캐시에, 공모전별 VEVENT 조각은 공모전 캐시에 두고 피드를 다시 만들 때는 바뀐 조각만 새로 작성
+// 외부 앱은 Authorization 헤더를 보낼 수 없으므로 (사용자 id, 토큰 버전) 에 대한 HMAC 서명 토큰을 URL 에 담아 인증
+// 토큰 버전이 오르면(비밀번호 변경, 모든 기기 로그아웃, 비활성화) 이전에 발급한 구독 URL 도 거부됨
+@Component
+public class CompetitionIcsFeed {
+
+    private static final String CONTENT_TYPE = "text/calendar; charset=UTF-8";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_PREFIX = "ics:";
+    private static final int GENERATED_SECRET_BYTES = 32;
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionIcsFeed.class);
+
+    private final CompetitionService competitionService;
+    private final CompetitionLikeIndex likeIndex;
+    private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final byte[] header;
+    private final byte[] footer;
+    private final ThreadLocal<Mac> macs;
+
+    // 사용자별 VCALENDAR 전체 바이트, 공모전별 VEVENT 조각
+    private final TinyLfuCache<Long, Feed> feeds;
+    private final TinyLfuCache<Long, byte[]> events;
+
+    // 버전은 기동 시각(마이크로초) 에서 시작해 계속 증가하므로 재시작 후에도 이전 ETag 와 겹치지 않음
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final long bootVersion = versions.get();
+    private final Map<Long, Long> userVersions = new ConcurrentHashMap<>();
+    // 공모전 삭제처럼 어느 사용자 피드가 바뀌었는지 알 수 없을 때 모든 피드의 버전을 올림
+    private volatile long globalVersion = bootVersion;
+
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong rendered = new AtomicLong();
+
+    public CompetitionIcsFeed(CompetitionService competitionService, CompetitionLikeIndex likeIndex,
+                              UserRepository userRepository, TokenVersionRegistry tokenVersionRegistry,
+                              @Value("${competition.ics.secret:}") String secret,
+                              @Value("${competition.ics.calendar-name:Quicklendar 관심 공모전}") String calendarName,
+                              @Value("${competition.deadline.zone:Asia/Seoul}") String zone,
+                              @Value("${competition.ics.feed-cache-bytes:16777216}") long feedCacheBytes,
+                              @Value("${competition.ics.event-cache-bytes:4194304}") long eventCacheBytes) {
+        this.competitionService = competitionService;
+        this.likeIndex = likeIndex;
+        this.userRepository = userRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.header = IcsWriter.header(calendarName, zone);
+        this.footer = IcsWriter.footer();
+        SecretKeySpec key = new SecretKeySpec(secretBytes(secret), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        this.feeds = new TinyLfuCache<>("icsFeeds", feedCacheBytes, 10_000, feed -> feed.bytes.length);
+        this.events = new TinyLfuCache<>("icsEvents", eventCacheBytes, 10_000, bytes -> bytes.length);
+    }
+
+    // 구독 URL 에 넣을 토큰 ("사용자 id.토큰 버전.서명"), 사용자가 없으면 null
+    public String feedToken(Long userId) {
+        // claims 인증 모드의 CustomUserDetails 에는 토큰 버전이 없으므로 DB 에서 읽음
+        return userRepository.findById(userId)
+                .map(user -> userId + "." + user.getTokenVersion() + "." + sign(userId, user.getTokenVersion()))
+                .orElse(null);
+    }
+
+    // 토큰이 유효하고 발급 후 토큰 버전이 바뀌지 않았으면 사용자 id, 아니면 null
+    public Long verifyFeedToken(String token) {
+        if (token == null) {
+            return null;
+        }
+        int first = token.indexOf('.');
+        int second = first > 0 ? token.indexOf('.', first + 1) : -1;
+        if (second < 0) {
+            return null;
+        }
+        long userId;
+        int tokenVersion;
+        try {
+            userId = Long.parseLong(token.substring(0, first));
+            tokenVersion = Integer.parseInt(token.substring(first + 1, second));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        byte[] expected = sign(userId, tokenVersion).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(second + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+        return switch (tokenVersionRegistry.check(userId, tokenVersion)) {
+            case VALID -> userId;
+            case REVOKED -> null;
+            // 색인만으로 판단할 수 없으면 DB 로 확인 (인증 필터와 같은 기준)
+            case UNKNOWN -> userRepository.findById(userId)
+                    .filter(user -> user.isEnabled() && tokenVersion >= user.getTokenVersion())
+                    .map(user -> userId)
+                    .orElse(null);
+        };
+    }
+
+    // If-None-Match 가 현재 버전과 같으면 304, 아니면 피드를 캐시에서 꺼내(없으면 만들어) 그대로 씀
+    public void serve(Long userId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        String current = etag(userId, version(userId));
+        if (ifNoneMatch != null && matchesAny(ifNoneMatch, current)) {
+            notModified.incrementAndGet();
+            response.setHeader(HttpHeaders.ETAG, current);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        Feed feed = feed(userId);
+        served.incrementAndGet();
+        response.setHeader(HttpHeaders.ETAG, etag(userId, feed.version));
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(feed.bytes.length);
+        response.getOutputStream().write(feed.bytes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(CompetitionLikeChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    // 수정된 공모전은 조각을 버리고 좋아요한 사용자들의 피드 버전을 올림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        Long competitionId = event.getCompetitionId();
+        events.invalidate(competitionId);
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            // 삭제 후에는 좋아요한 사용자 목록을 더 이상 얻을 수 없음
+            globalVersion = versions.incrementAndGet();
+            feeds.invalidateAll();
+            return;
+        }
+        for (int userId : likeIndex.usersWhoLiked(competitionId)) {
+            bump((long) userId);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("served", served.get());
+        stats.put("notModified", notModified.get());
+        stats.put("rendered", rendered.get());
+        stats.put("versionedUsers", userVersions.size());
+        stats.put(feeds.getName(), feeds.stats());
+        stats.put(events.getName(), events.stats());
+        return stats;
+    }
+
+    private long version(Long userId) {
+        return Math.max(userVersions.getOrDefault(userId, bootVersion), globalVersion);
+    }
+
+    private void bump(Long userId) {
+        userVersions.put(userId, versions.incrementAndGet());
+        feeds.invalidate(userId);
+    }
+
+    // 버전이 맞는 캐시 항목이 없으면 새로 만듦 (만드는 중에 무효화되면 캐시에 넣지 않음 -> TinyLfuCache.get 의 세대 비교)
+    private Feed feed(Long userId) {
+        long version = version(userId);
+        Feed cached = feeds.get(userId, key -> render(key, version));
+        if (cached.version == version) {
+            return cached;
+        }
+        feeds.invalidate(userId);
+        return feeds.get(userId, key -> render(key, version(key)));
+    }
+
+    private Feed render(Long userId, long version) {
+        rendered.incrementAndGet();
+        List<Long> ids = new ArrayList<>();
+        for (int competitionId : likeIndex.competitionsLikedBy(userId)) {
+            ids.add((long) competitionId);
+        }
+        Map<Long, byte[]> chunks = events.getAll(ids, missing -> competitionService.getCompetitionDTOs(missing).stream()
+                .collect(Collectors.toMap(CompetitionDTO::getId, IcsWriter::events)));
+
+        int length = header.length + footer.length;
+        for (byte[] chunk : chunks.values()) {
+            length += chunk.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        out.writeBytes(header);
+        for (Long id : ids) {
+            byte[] chunk = chunks.get(id);
+            if (chunk != null) {
+                out.writeBytes(chunk);
+            }
+        }
+        out.writeBytes(footer);
+        return new Feed(version, out.toByteArray());
+    }
+
+    private String sign(long userId, int tokenVersion) {
+        byte[] signature = macs.get().doFinal((TOKEN_PREFIX + userId + ":" + tokenVersion).getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    // JWT 서명 키와는 다른 키를 씀 (구독 URL 은 외부 앱/로그에 남기 쉬움)
+    // 설정이 없으면 임의 키를 만들고 경고 -> 재시작하면 이전 구독 URL 은 무효
+    private static byte[] secretBytes(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("competition.ics.secret is not set, using a random key; calendar subscription URLs will not survive a restart");
+        byte[] generated = new byte[GENERATED_SECRET_BYTES];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+
+    private static String etag(Long userId, long version) {
+        return "\"" + userId + "-" + Long.toString(version, 36) + "\"";
+    }
+
+    private static boolean matchesAny(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Feed {
+        private final long version;
+        private final byte[] bytes;
+
+        private Feed(long version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
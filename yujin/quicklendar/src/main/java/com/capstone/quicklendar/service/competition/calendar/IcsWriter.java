@@ -0,0 +1,154 @@
+package com.capstone.quicklendar.service.competition.calendar;
+
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+// iCalendar(RFC 5545) 조각 작성: 줄 끝은 CRLF, 75 옥텟이 넘는 줄은 접음(UTF-8 글자 중간에서 자르지 않음)
+final class IcsWriter {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private IcsWriter() {
+    }
+
+    static byte[] header(String calendarName, String zone) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//Quicklendar//Competitions//KO");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        line(out, "X-WR-CALNAME:" + escape(calendarName));
+        line(out, "X-WR-TIMEZONE:" + escape(zone));
+        line(out, "REFRESH-INTERVAL;VALUE=DURATION:PT1H");
+        line(out, "X-PUBLISHED-TTL:PT1H");
+        return out.toByteArray();
+    }
+
+    static byte[] footer() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        line(out, "END:VCALENDAR");
+        return out.toByteArray();
+    }
+
+    // 공모전 하나의 VEVENT (접수 기간, 대회 기간 각각 종일 일정, 날짜가 없는 쪽은 생략)
+    static byte[] events(CompetitionDTO competition) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        String stamp = ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP);
+        event(out, competition, "request", "[접수] ", competition.getRequestStartDate(), competition.getRequestEndDate(), stamp);
+        event(out, competition, "event", "[대회] ", competition.getStartDate(), competition.getEndDate(), stamp);
+        return out.toByteArray();
+    }
+
+    private static void event(ByteArrayOutputStream out, CompetitionDTO competition, String kind, String prefix,
+                              LocalDate start, LocalDate end, String stamp) {
+        if (start == null) {
+            return;
+        }
+        // 종일 일정의 DTEND 는 마지막 날 다음 날 (포함하지 않음)
+        LocalDate last = (end == null || end.isBefore(start)) ? start : end;
+        String requestPath = competition.getRequestPath();
+        boolean linkable = isHttpUri(requestPath);
+
+        StringBuilder description = new StringBuilder();
+        appendField(description, "주최", competition.getHost());
+        appendField(description, "지원", competition.getSupport());
+        if (!linkable) {
+            appendField(description, "접수", requestPath);
+        }
+
+        line(out, "BEGIN:VEVENT");
+        line(out, "UID:competition-" + competition.getId() + "-" + kind + "@quicklendar");
+        line(out, "DTSTAMP:" + stamp);
+        line(out, "DTSTART;VALUE=DATE:" + start.format(DATE));
+        line(out, "DTEND;VALUE=DATE:" + last.plusDays(1).format(DATE));
+        line(out, "SUMMARY:" + escape(prefix + competition.getName()));
+        if (description.length() > 0) {
+            line(out, "DESCRIPTION:" + escape(description.toString()));
+        }
+        if (competition.getLocation() != null && !competition.getLocation().isBlank()) {
+            line(out, "LOCATION:" + escape(competition.getLocation()));
+        }
+        if (linkable) {
+            line(out, "URL:" + requestPath);
+        }
+        line(out, "TRANSP:TRANSPARENT");
+        line(out, "END:VEVENT");
+    }
+
+    private static void appendField(StringBuilder description, String label, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        if (description.length() > 0) {
+            description.append('\n');
+        }
+        description.append(label).append(": ").append(value);
+    }
+
+    // URL 값으로 그대로 쓸 수 있는 http(s) 주소인지 (제어 문자나 공백이 있으면 CRLF 로 속성을 끼워 넣을 수 있으므로 제외)
+    static boolean isHttpUri(String value) {
+        if (value == null || !(value.startsWith("http://") || value.startsWith("https://"))) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || Character.isISOControl(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // TEXT 값 이스케이프 (\ ; , 줄바꿈), 탭 외의 다른 제어 문자는 버림
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\t' -> escaped.append(c);
+                default -> {
+                    if (!Character.isISOControl(c)) {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    // 한 줄 쓰기, 75 옥텟을 넘으면 CRLF + 공백으로 접음 (이어지는 줄은 공백 포함 75 옥텟)
+    static void line(ByteArrayOutputStream out, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+        int limit = MAX_LINE_OCTETS;
+        while (bytes.length - start > limit) {
+            int end = start + limit;
+            // UTF-8 연속 바이트(10xxxxxx) 앞에서는 자르지 않음
+            while ((bytes[end] & 0xC0) == 0x80) {
+                end--;
+            }
+            out.write(bytes, start, end - start);
+            out.write(CRLF, 0, CRLF.length);
+            out.write(' ');
+            start = end;
+            limit = MAX_LINE_OCTETS - 1;
+        }
+        out.write(bytes, start, bytes.length - start);
+        out.write(CRLF, 0, CRLF.length);
+    }
+}
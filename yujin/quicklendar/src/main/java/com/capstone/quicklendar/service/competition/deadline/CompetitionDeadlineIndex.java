@@ -0,0 +1,158 @@
+package com.capstone.quicklendar.service.competition.deadline;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiConsumer;
+
+// 접수 마감일(requestEndDate) 순 인메모리 색인 ("마감 임박" 조회용)
+// (마감일 epoch day, 공모전 id) 를 long 하나로 묶어 정렬 집합에 넣어 두고, 조회 구간만 잘라 앞에서부터 읽음
+// 마감이 지나지 않은 공모전만 보관하고, 지난 항목은 매일 정리
+@Component
+public class CompetitionDeadlineIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionDeadlineIndex.class);
+
+    private final CompetitionRepository competitionRepository;
+    private final ZoneId zone;
+
+    // 상위 32비트 마감일(epoch day), 하위 32비트 공모전 id -> 정렬 순서 = 마감일 -> id
+    private final NavigableSet<Long> byDeadline = new ConcurrentSkipListSet<>();
+    private final Map<Long, Long> keyById = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public CompetitionDeadlineIndex(CompetitionRepository competitionRepository,
+                                    @Value("${competition.deadline.zone:Asia/Seoul}") String zone) {
+        this.competitionRepository = competitionRepository;
+        this.zone = ZoneId.of(zone);
+    }
+
+    // 알림 스케줄러(DeadlineReminderScheduler)가 이 색인으로 타이머를 채우므로 먼저 적재
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+        for (Object[] row : competitionRepository.findIdAndRequestEndDateFrom(today())) {
+            index((Long) row[0], (LocalDate) row[1]);
+        }
+        ready = true;
+        log.info("competition deadline index ready: {} open competitions in {} ms", size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            remove(event.getCompetitionId());
+        } else {
+            Competition competition = event.getCompetition();
+            index(competition.getId(), competition.getRequestEndDate());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void index(Long competitionId, LocalDate requestEndDate) {
+        remove(competitionId);
+        if (requestEndDate == null || requestEndDate.isBefore(today())) {
+            return;
+        }
+        long key = key(requestEndDate.toEpochDay(), competitionId);
+        byDeadline.add(key);
+        keyById.put(competitionId, key);
+    }
+
+    public synchronized void remove(Long competitionId) {
+        Long previous = keyById.remove(competitionId);
+        if (previous != null) {
+            byDeadline.remove(previous);
+        }
+    }
+
+    // 오늘부터 days 일 안에 접수가 마감되는 공모전 id 최대 limit 개 (마감일 -> id 순)
+    // 색인이 준비되기 전에는 DB 에서 조회
+    public List<Long> closingWithin(int days, int limit) {
+        LocalDate today = today();
+        LocalDate last = today.plusDays(days);
+        if (!ready) {
+            return competitionRepository.findIdsByRequestEndDateBetween(today, last, PageRequest.of(0, limit));
+        }
+
+        List<Long> ids = new ArrayList<>(Math.min(limit, 64));
+        for (long key : byDeadline.subSet(key(today.toEpochDay(), 0), true, key(last.toEpochDay() + 1, 0), false)) {
+            ids.add(key & 0xFFFFFFFFL);
+            if (ids.size() == limit) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    // 공모전 id -> 접수 마감일 (색인에 없으면 null)
+    public LocalDate deadlineOf(Long competitionId) {
+        Long key = keyById.get(competitionId);
+        return key != null ? LocalDate.ofEpochDay(key >> 32) : null;
+    }
+
+    // 색인의 모든 (공모전 id, 마감일) 을 마감일순으로 전달
+    void forEachOpen(BiConsumer<Long, LocalDate> consumer) {
+        for (long key : byDeadline) {
+            consumer.accept(key & 0xFFFFFFFFL, LocalDate.ofEpochDay(key >> 32));
+        }
+    }
+
+    // 마감이 지난 항목 정리 (매일 0시 10분)
+    @Scheduled(cron = "${competition.deadline.prune-cron:0 10 0 * * *}", zone = "${competition.deadline.zone:Asia/Seoul}")
+    public void pruneExpired() {
+        NavigableSet<Long> expired = byDeadline.headSet(key(today().toEpochDay(), 0), false);
+        int removed = 0;
+        for (Long key : expired) {
+            synchronized (this) {
+                if (byDeadline.remove(key)) {
+                    keyById.remove(key & 0xFFFFFFFFL, key);
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.info("pruned {} closed competitions from deadline index", removed);
+        }
+    }
+
+    public int size() {
+        return keyById.size();
+    }
+
+    LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    ZoneId getZone() {
+        return zone;
+    }
+
+    private static long key(long epochDay, long competitionId) {
+        return (epochDay << 32) | Math.toIntExact(competitionId);
+    }
+}
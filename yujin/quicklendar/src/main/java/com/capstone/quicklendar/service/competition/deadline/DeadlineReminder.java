@@ -0,0 +1,42 @@
+package com.capstone.quicklendar.service.competition.deadline;
+
+import java.time.LocalDate;
+
+// 좋아요한 공모전의 접수 마감 알림 한 건 (사용자 한 명 기준)
+public class DeadlineReminder {
+
+    private final Long userId;
+    private final Long competitionId;
+    private final String competitionName;
+    private final LocalDate requestEndDate;
+    // 마감까지 남은 일 수 (7 = D-7, 1 = D-1)
+    private final int daysLeft;
+
+    public DeadlineReminder(Long userId, Long competitionId, String competitionName, LocalDate requestEndDate, int daysLeft) {
+        this.userId = userId;
+        this.competitionId = competitionId;
+        this.competitionName = competitionName;
+        this.requestEndDate = requestEndDate;
+        this.daysLeft = daysLeft;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+
+    public String getCompetitionName() {
+        return competitionName;
+    }
+
+    public LocalDate getRequestEndDate() {
+        return requestEndDate;
+    }
+
+    public int getDaysLeft() {
+        return daysLeft;
+    }
+}
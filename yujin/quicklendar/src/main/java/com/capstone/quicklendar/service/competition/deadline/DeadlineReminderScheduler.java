@@ -0,0 +1,200 @@
+package com.capstone.quicklendar.service.competition.deadline;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.service.competition.CompetitionService;
+import com.capstone.quicklendar.service.competition.like.CompetitionLikeIndex;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import com.capstone.quicklendar.util.scheduling.HierarchicalTimingWheel;
+import com.capstone.quicklendar.util.scheduling.HierarchicalTimingWheel.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 좋아요한 공모전의 접수 마감 알림 (D-7, D-1 등)
+// 타이머는 사용자별이 아니라 (공모전, D-n) 당 하나만 계층형 타이밍 휠에 예약하고,
+// 만료되면 그 공모전을 좋아요한 사용자를 좋아요 색인 비트맵에서 꺼내 한 번에 ReminderNotifier 로 보냄
+// -> 대기 중인 알림(사용자 x 공모전)이 수십만 건이어도 타이머 수는 열린 공모전 수 x D-n 개, 스레드는 휠을 돌리는 스케줄러 하나
+// 예약 정보는 메모리에만 있고 기동 시 마감일 색인에서 다시 채움 (이미 지난 알림 시각은 보내지 않음)
+@Component
+public class DeadlineReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineReminderScheduler.class);
+
+    private final CompetitionDeadlineIndex deadlineIndex;
+    private final CompetitionLikeIndex likeIndex;
+    private final CompetitionService competitionService;
+    private final ReminderNotifier notifier;
+    private final int[] reminderDays;
+    private final int reminderHour;
+    private final int batchSize;
+    private final ZoneId zone;
+
+    private final HierarchicalTimingWheel<ReminderTimer> wheel;
+    // 공모전 id -> 예약된 타이머 (마감일이 바뀌거나 삭제되면 취소)
+    private final Map<Long, ScheduledReminders> scheduled = new ConcurrentHashMap<>();
+
+    private final AtomicLong firedTimers = new AtomicLong();
+    private final AtomicLong sentReminders = new AtomicLong();
+    private final AtomicLong failedTimers = new AtomicLong();
+
+    public DeadlineReminderScheduler(CompetitionDeadlineIndex deadlineIndex, CompetitionLikeIndex likeIndex,
+                                     CompetitionService competitionService, ReminderNotifier notifier,
+                                     @Value("${competition.reminder.days:7,1}") int[] reminderDays,
+                                     @Value("${competition.reminder.hour:9}") int reminderHour,
+                                     @Value("${competition.reminder.batch-size:1000}") int batchSize,
+                                     @Value("${competition.reminder.tick-ms:1000}") long tickMillis) {
+        this.deadlineIndex = deadlineIndex;
+        this.likeIndex = likeIndex;
+        this.competitionService = competitionService;
+        this.notifier = notifier;
+        this.reminderDays = reminderDays;
+        this.reminderHour = reminderHour;
+        this.batchSize = batchSize;
+        this.zone = deadlineIndex.getZone();
+        // 64칸 x 5단계 -> 1초 틱 기준 약 34년 범위
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, 6, 5, System.currentTimeMillis());
+    }
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        deadlineIndex.forEachOpen(this::schedule);
+        log.info("deadline reminders scheduled: {} timers for {} competitions", wheel.size(), scheduled.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            cancel(event.getCompetitionId());
+        } else {
+            Competition competition = event.getCompetition();
+            schedule(competition.getId(), competition.getRequestEndDate());
+        }
+    }
+
+    // 공모전의 알림 타이머를 마감일 기준으로 (다시) 예약, 마감일이 그대로면 기존 타이머 유지
+    public synchronized void schedule(Long competitionId, LocalDate requestEndDate) {
+        ScheduledReminders current = scheduled.get(competitionId);
+        if (current != null && current.requestEndDate.equals(requestEndDate)) {
+            return;
+        }
+        cancel(competitionId);
+        if (requestEndDate == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<Timeout<ReminderTimer>> timeouts = new ArrayList<>(reminderDays.length);
+        for (int daysLeft : reminderDays) {
+            long fireAt = requestEndDate.minusDays(daysLeft).atTime(reminderHour, 0).atZone(zone).toInstant().toEpochMilli();
+            if (fireAt > now) {
+                timeouts.add(wheel.schedule(new ReminderTimer(competitionId, requestEndDate, daysLeft), fireAt));
+            }
+        }
+        if (!timeouts.isEmpty()) {
+            scheduled.put(competitionId, new ScheduledReminders(requestEndDate, timeouts));
+        }
+    }
+
+    public synchronized void cancel(Long competitionId) {
+        ScheduledReminders removed = scheduled.remove(competitionId);
+        if (removed != null) {
+            removed.timeouts.forEach(wheel::cancel);
+        }
+    }
+
+    // 휠을 현재 시각까지 진행하고 만료된 알림 발송 (스케줄러가 늦게 돌아도 밀린 틱을 한 번에 처리)
+    @Scheduled(fixedDelayString = "${competition.reminder.tick-ms:1000}")
+    public void tick() {
+        for (ReminderTimer timer : wheel.advance(System.currentTimeMillis())) {
+            synchronized (this) {
+                ScheduledReminders current = scheduled.get(timer.competitionId);
+                if (current != null && current.timeouts.removeIf(timeout -> timeout.getPayload() == timer)
+                        && current.timeouts.isEmpty()) {
+                    scheduled.remove(timer.competitionId, current);
+                }
+            }
+            try {
+                fire(timer);
+            } catch (RuntimeException e) {
+                failedTimers.incrementAndGet();
+                log.warn("failed to send D-{} reminders for competition {}", timer.daysLeft, timer.competitionId, e);
+            }
+        }
+    }
+
+    private void fire(ReminderTimer timer) {
+        firedTimers.incrementAndGet();
+        // 만료 직전에 마감일이 바뀌었거나 삭제된 공모전이면 보내지 않음
+        if (!timer.requestEndDate.equals(deadlineIndex.deadlineOf(timer.competitionId))) {
+            return;
+        }
+        Optional<CompetitionDTO> competition = competitionService.getCompetitionDTO(timer.competitionId);
+        if (competition.isEmpty()) {
+            return;
+        }
+
+        String name = competition.get().getName();
+        int[] userIds = likeIndex.usersWhoLiked(timer.competitionId);
+        for (int from = 0; from < userIds.length; from += batchSize) {
+            int to = Math.min(userIds.length, from + batchSize);
+            List<DeadlineReminder> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(new DeadlineReminder((long) userIds[i], timer.competitionId, name, timer.requestEndDate, timer.daysLeft));
+            }
+            notifier.send(batch);
+            sentReminders.addAndGet(batch.size());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingTimers", wheel.size());
+        stats.put("scheduledCompetitions", scheduled.size());
+        stats.put("firedTimers", firedTimers.get());
+        stats.put("sentReminders", sentReminders.get());
+        stats.put("failedTimers", failedTimers.get());
+        stats.put("openCompetitions", deadlineIndex.size());
+        return stats;
+    }
+
+    // 타이밍 휠에 넣는 타이머 (공모전 하나의 D-n 알림)
+    private static final class ReminderTimer {
+        private final Long competitionId;
+        private final LocalDate requestEndDate;
+        private final int daysLeft;
+
+        private ReminderTimer(Long competitionId, LocalDate requestEndDate, int daysLeft) {
+            this.competitionId = competitionId;
+            this.requestEndDate = requestEndDate;
+            this.daysLeft = daysLeft;
+        }
+    }
+
+    private static final class ScheduledReminders {
+        private final LocalDate requestEndDate;
+        private final List<Timeout<ReminderTimer>> timeouts;
+
+        private ScheduledReminders(LocalDate requestEndDate, List<Timeout<ReminderTimer>> timeouts) {
+            this.requestEndDate = requestEndDate;
+            this.timeouts = timeouts;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.capstone.quicklendar.service.competition.deadline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로컬 개발용 알림 발송: 알림을 로컬 파일에 한 줄씩 추가 기록 ("시각\t사용자 id\t공모전 id\tD-n\t마감일\t공모전 이름")
+@Component
+public class LogFileReminderNotifier implements ReminderNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LogFileReminderNotifier.class);
+
+    private final Path file;
+    private final AtomicLong sent = new AtomicLong();
+
+    public LogFileReminderNotifier(@Value("${competition.reminder.log-file:./data/reminders.log}") String file) {
+        this.file = Paths.get(file);
+    }
+
+    @Override
+    public synchronized void send(List<DeadlineReminder> reminders) {
+        if (reminders.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (DeadlineReminder reminder : reminders) {
+                    writer.write(now + "\t" + reminder.getUserId() + '\t' + reminder.getCompetitionId()
+                            + "\tD-" + reminder.getDaysLeft() + '\t' + reminder.getRequestEndDate()
+                            + '\t' + reminder.getCompetitionName() + '\n');
+                }
+            }
+        } catch (IOException e) {
+            log.warn("failed to write {} deadline reminders to {}", reminders.size(), file, e);
+            return;
+        }
+        sent.addAndGet(reminders.size());
+        DeadlineReminder first = reminders.get(0);
+        log.info("sent {} D-{} reminders for competition {}", reminders.size(), first.getDaysLeft(), first.getCompetitionId());
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+}
@@ -0,0 +1,10 @@
+package com.capstone.quicklendar.service.competition.deadline;
+
+import java.util.List;
+
+// 마감 알림 발송 (메일/푸시 등 실제 구현은 이 인터페이스를 구현한 @Primary 빈으로 교체)
+// 같은 공모전/같은 D-n 의 알림을 묶어서 전달하며, 알림 스케줄러 스레드에서 호출되므로 오래 막히지 않아야 함
+public interface ReminderNotifier {
+
+    void send(List<DeadlineReminder> reminders);
+}
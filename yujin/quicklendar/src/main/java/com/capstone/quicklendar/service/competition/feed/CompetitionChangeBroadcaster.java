@@ -0,0 +1,223 @@
+package com.capstone.quicklendar.service.competition.feed;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 변경 피드 SSE 구독 관리
+// 구독자는 자기 위치(마지막으로 보낸 버전)만 들고, 변경 내용은 CompetitionChangeFeed 의 링 버퍼에서 직접 읽어 보냄
+// 디스패처 스레드 하나가 새 버전을 기다렸다가 구독자별 전송 작업을 전송 풀에 넣음 (변경, heartbeat 모두 구독자당 대기 작업은 최대 1개)
+// 느린 구독자가 버퍼에서 밀려나면 reset 이벤트를 보내고 연결을 닫음 (클라이언트는 전체 목록을 다시 받고 재구독)
+@Component
+public class CompetitionChangeBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionChangeBroadcaster.class);
+
+    private static final int MAX_EVENTS_PER_SEND = 256;
+    private static final int QUEUE_HEADROOM = 64;
+
+    private final CompetitionChangeFeed feed;
+    private final long emitterTimeoutMillis;
+    private final long heartbeatMillis;
+    private final int maxSubscribers;
+    private final ThreadPoolExecutor senders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sentEvents = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread dispatcher;
+
+    public CompetitionChangeBroadcaster(CompetitionChangeFeed feed,
+                                        @Value("${competition.feed.sse-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                        @Value("${competition.feed.heartbeat-ms:15000}") long heartbeatMillis,
+                                        @Value("${competition.feed.max-subscribers:10000}") int maxSubscribers,
+                                        @Value("${competition.feed.sender-threads:2}") int senderThreads) {
+        this.feed = feed;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 구독자당 대기 작업이 하나뿐이므로 대기열 길이는 구독자 수를 넘지 않음 (구독자 수 검사가 경쟁하는 만큼 여유를 둠)
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxSubscribers + QUEUE_HEADROOM), runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher = new Thread(this::dispatchLoop, "change-feed-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    // since 이후 변경부터 전송하는 구독 생성 (since 가 null 이면 현재 버전부터), 구독자가 너무 많으면 null
+    public SseEmitter subscribe(Long since) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejected.incrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        long latest = feed.latestVersion();
+        Subscriber subscriber = new Subscriber(emitter, since != null ? since : latest);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        try {
+            // 클라이언트가 기준 버전을 알 수 있도록 연결 직후 현재 버전을 알려 줌
+            emitter.send(SseEmitter.event().name("version").data(String.valueOf(latest)));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.size());
+        stats.put("pendingSends", senders.getQueue().size());
+        stats.put("sentEvents", sentEvents.get());
+        stats.put("resets", resets.get());
+        stats.put("rejectedSubscriptions", rejected.get());
+        stats.put("droppedSubscribers", dropped.get());
+        stats.putAll(feed.stats());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        senders.shutdown();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 새 버전이 생기면 모든 구독자에게 전송 예약, heartbeat-ms 동안 변경이 없으면 주석 줄을 보내 끊긴 연결을 정리
+    private void dispatchLoop() {
+        long seen = feed.latestVersion();
+        while (running) {
+            try {
+                long latest = feed.awaitChange(seen, heartbeatMillis);
+                boolean heartbeat = latest == seen;
+                seen = latest;
+                for (Subscriber subscriber : subscribers) {
+                    if (heartbeat) {
+                        // 이미 전송이 예약된 구독자는 그 전송이 heartbeat 를 대신함
+                        subscriber.heartbeatDue = true;
+                    }
+                    schedule(subscriber);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("change feed dispatch failed", e);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> {
+                    // 전송 중에 추가된 변경은 다시 예약되도록 먼저 해제
+                    subscriber.scheduled.set(false);
+                    subscriber.deliver();
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중이거나 대기열이 가득 참 -> 연결을 닫아 클라이언트가 재구독하게 함
+                subscriber.scheduled.set(false);
+                if (running) {
+                    dropped.incrementAndGet();
+                    subscriber.close();
+                }
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // 변경 없이 heartbeat-ms 가 지나 주석 줄을 보내야 함 (다음 deliver 에서 처리)
+        private volatile boolean heartbeatDue;
+        // 마지막으로 보낸 버전 (deliver 는 한 번에 하나만 실행)
+        private long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private synchronized void deliver() {
+            boolean heartbeat = heartbeatDue;
+            heartbeatDue = false;
+            try {
+                if (heartbeat && cursor >= feed.latestVersion()) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+                while (cursor < feed.latestVersion()) {
+                    List<CompetitionChangeFeed.Slot> slots = feed.slotsSince(cursor, MAX_EVENTS_PER_SEND);
+                    if (slots == null) {
+                        resets.incrementAndGet();
+                        emitter.send(SseEmitter.event().name("reset").data(String.valueOf(feed.latestVersion())));
+                        close();
+                        return;
+                    }
+                    for (CompetitionChangeFeed.Slot slot : slots) {
+                        long version = slot.getChange().getVersion();
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(version))
+                                .name("change")
+                                .data(slot.getJson()));
+                        cursor = version;
+                        sentEvents.incrementAndGet();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 또는 이미 완료된 emitter
+                close();
+            }
+        }
+
+        private void close() {
+            subscribers.remove(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료됨
+            }
+        }
+    }
+}
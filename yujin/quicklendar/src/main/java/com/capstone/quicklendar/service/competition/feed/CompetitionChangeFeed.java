@@ -0,0 +1,209 @@
+package com.capstone.quicklendar.service.competition.feed;
+
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.util.dto.CompetitionChangeDTO;
+import com.capstone.quicklendar.util.dto.CompetitionChangesDTO;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 공모전 변경 피드 (등록/수정/삭제 + 좋아요 수 변경)
+// 변경마다 단조 증가 버전을 붙여 고정 크기 링 버퍼 하나에 보관하고, 모든 조회/구독자가 같은 버퍼를 읽음 (구독자별 복사본 없음)
+// JSON 은 추가할 때 한 번만 직렬화해 SSE 전송에 그대로 사용
+// 좋아요는 건마다 넣지 않고 like-flush-ms 동안 공모전별 증감을 모아 한 건으로 추가
+@Component
+public class CompetitionChangeFeed {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+    public static final String LIKES = "LIKES";
+
+    private static final int MAX_CHANGES_PER_REQUEST = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Slot[] ring;
+    // 버전은 시작 시각(ms) * 1000 부터 시작 -> 재시작해도 줄어들지 않으므로 이전 실행의 버전은 항상 버퍼보다 오래된 것으로 판단됨
+    private final long firstVersion;
+
+    // 추가는 lock 안에서만, 조회는 latestVersion 을 먼저 읽고 버퍼를 읽음 (슬롯의 version 으로 덮어쓰기 확인)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long nextVersion;
+    private volatile long latestVersion;
+
+    // 아직 피드에 넣지 않은 공모전별 좋아요 증감 (pendingLikes 로 동기화)
+    private final Map<Long, Long> pendingLikes = new LinkedHashMap<>();
+
+    @Value("${image.base.url}")
+    private String imageBaseUrl;
+
+    public CompetitionChangeFeed(ObjectMapper objectMapper,
+                                 @Value("${competition.feed.capacity:16384}") int capacity) {
+        this.objectMapper = objectMapper;
+        this.capacity = Math.max(16, capacity);
+        this.ring = new Slot[this.capacity];
+        this.firstVersion = System.currentTimeMillis() * 1000;
+        this.nextVersion = firstVersion;
+        this.latestVersion = firstVersion - 1;
+    }
+
+    // 커밋된 변경만 피드에 넣음 (롤백된 변경을 클라이언트가 보지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> append(CREATED, event.getCompetitionId(), new CompetitionDTO(event.getCompetition(), imageBaseUrl), null);
+            case UPDATED -> append(UPDATED, event.getCompetitionId(), new CompetitionDTO(event.getCompetition(), imageBaseUrl), null);
+            case DELETED -> append(DELETED, event.getCompetitionId(), null, null);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(CompetitionLikeChangedEvent event) {
+        synchronized (pendingLikes) {
+            pendingLikes.merge(event.getCompetitionId(), event.isLiked() ? 1L : -1L, Long::sum);
+        }
+    }
+
+    // 모아 둔 좋아요 증감을 공모전별 한 건씩 추가 (서로 상쇄되어 0 이면 생략)
+    @Scheduled(fixedDelayString = "${competition.feed.like-flush-ms:1000}")
+    public void flushLikes() {
+        Map<Long, Long> deltas;
+        synchronized (pendingLikes) {
+            if (pendingLikes.isEmpty()) {
+                return;
+            }
+            deltas = new LinkedHashMap<>(pendingLikes);
+            pendingLikes.clear();
+        }
+        deltas.forEach((competitionId, delta) -> {
+            if (delta != 0) {
+                append(LIKES, competitionId, null, delta);
+            }
+        });
+    }
+
+    public long latestVersion() {
+        return latestVersion;
+    }
+
+    // since 이후 변경 최대 limit 건 (since 는 클라이언트가 마지막으로 반영한 버전)
+    public CompetitionChangesDTO changesSince(long since, int limit) {
+        long latest = latestVersion;
+        int size = Math.min(Math.max(limit, 1), MAX_CHANGES_PER_REQUEST);
+        List<Slot> slots = slotsSince(since, latest, size);
+        if (slots == null) {
+            return new CompetitionChangesDTO(latest, true, false, List.of());
+        }
+        List<CompetitionChangeDTO> changes = new ArrayList<>(slots.size());
+        slots.forEach(slot -> changes.add(slot.change));
+        long last = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        return new CompetitionChangesDTO(latest, false, last < latest, changes);
+    }
+
+    // SSE 전송용: since 이후 변경 최대 limit 건의 (버전, 유형, JSON), 버퍼에서 이미 밀려났으면 null
+    List<Slot> slotsSince(long since, int limit) {
+        return slotsSince(since, latestVersion, limit);
+    }
+
+    // afterVersion 이후 변경이 추가될 때까지 최대 timeoutMillis 대기, 최신 버전 반환
+    long awaitChange(long afterVersion, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lock.lock();
+        try {
+            long remaining = deadline - System.nanoTime();
+            while (latestVersion <= afterVersion && remaining > 0) {
+                remaining = appended.awaitNanos(remaining);
+            }
+            return latestVersion;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long latest = latestVersion;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", capacity);
+        stats.put("latestVersion", latest);
+        stats.put("appended", latest - firstVersion + 1);
+        stats.put("oldestVersion", Math.max(firstVersion, latest - capacity + 1));
+        synchronized (pendingLikes) {
+            stats.put("pendingLikeCompetitions", pendingLikes.size());
+        }
+        return stats;
+    }
+
+    private void append(String type, Long competitionId, CompetitionDTO competition, Long likeDelta) {
+        lock.lock();
+        try {
+            long version = nextVersion++;
+            CompetitionChangeDTO change = new CompetitionChangeDTO(version, type, competitionId, competition, likeDelta);
+            ring[(int) (version % capacity)] = new Slot(change, toJson(change));
+            latestVersion = version;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Slot> slotsSince(long since, long latest, int limit) {
+        // 이전 실행의 버전이거나, 아직 없는 버전이거나, 버퍼에서 이미 밀려난 구간이면 처음부터 다시 받아야 함
+        if (since < firstVersion - 1 || since > latest || latest - since > capacity) {
+            return null;
+        }
+        long end = Math.min(latest, since + limit);
+        List<Slot> slots = new ArrayList<>((int) (end - since));
+        for (long version = since + 1; version <= end; version++) {
+            Slot slot = ring[(int) (version % capacity)];
+            if (slot == null || slot.change.getVersion() != version) {
+                // 읽는 도중 덮어써짐
+                return null;
+            }
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    private String toJson(CompetitionChangeDTO change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 링 버퍼 한 칸 (변경 + 미리 직렬화한 JSON)
+    static final class Slot {
+        private final CompetitionChangeDTO change;
+        private final String json;
+
+        private Slot(CompetitionChangeDTO change, String json) {
+            this.change = change;
+            this.json = json;
+        }
+
+        CompetitionChangeDTO getChange() {
+            return change;
+        }
+
+        String getJson() {
+            return json;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.capstone.quicklendar.service.competition.host;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import com.capstone.quicklendar.util.dto.HostSuggestionDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 주최(host) 사전 + 자동완성 인메모리 색인
+// 공모전 id -> host 와 host 별 공모전 수를 등록/수정/삭제 이벤트로 증분 갱신 (host 문자열은 사전의 인스턴스 하나를 공유)
+// 자동완성은 정규화한 host 의 모든 접미사를 정렬한 배열(suffix array)에서 이분 탐색 -> 접두/중간 일치 모두 O(log n)
+@Component
+public class CompetitionHostIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionHostIndex.class);
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final CompetitionRepository competitionRepository;
+
+    // 아래 필드는 this 로 동기화 (쓰기는 공모전 변경 시에만 일어나므로 단순 잠금)
+    private final Map<Long, String> hostById = new HashMap<>();
+    private final Map<String, HostCount> counts = new HashMap<>();
+    // 사전이 바뀌면 null, 다음 조회 때 다시 만듦 (대량 등록 중 매 행마다 정렬하지 않도록)
+    private Snapshot snapshot;
+
+    private volatile boolean ready;
+
+    public CompetitionHostIndex(CompetitionRepository competitionRepository) {
+        this.competitionRepository = competitionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+        rebuild();
+        ready = true;
+        log.info("competition host index ready: {} hosts in {} ms", size(), System.currentTimeMillis() - started);
+    }
+
+    // 커밋된 변경만 반영 (롤백된 등록/수정이 색인에 남지 않게)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            remove(event.getCompetitionId());
+        } else {
+            index(event.getCompetition());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void index(Competition competition) {
+        removeLocked(competition.getId());
+        String host = competition.getHost();
+        if (host == null || host.isBlank()) {
+            return;
+        }
+        hostById.put(competition.getId(), addLocked(host));
+    }
+
+    public synchronized void remove(Long competitionId) {
+        removeLocked(competitionId);
+    }
+
+    // 전체 host 목록 (이름순), 색인이 준비되기 전에는 DB 에서 조회
+    public List<String> getHosts() {
+        if (!ready) {
+            return competitionRepository.findDistinctHosts();
+        }
+        Snapshot current = currentSnapshot();
+        return List.of(current.hosts);
+    }
+
+    // query 를 접두 또는 중간에 포함하는 host 를 공모전 수 내림차순으로 최대 limit 개 (접두 일치 우선)
+    public List<HostSuggestionDTO> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        int size = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return currentSnapshot().suggest(normalized, size);
+    }
+
+    public synchronized int size() {
+        return counts.size();
+    }
+
+    // DB 의 (id, host) 전체로 다시 만듦
+    public void rebuild() {
+        List<Object[]> rows = competitionRepository.findIdAndHost();
+        synchronized (this) {
+            hostById.clear();
+            counts.clear();
+            snapshot = null;
+            for (Object[] row : rows) {
+                String host = (String) row[1];
+                if (host != null && !host.isBlank()) {
+                    hostById.put((Long) row[0], addLocked(host));
+                }
+            }
+        }
+    }
+
+    private synchronized Snapshot currentSnapshot() {
+        if (snapshot == null) {
+            snapshot = Snapshot.build(counts);
+        }
+        return snapshot;
+    }
+
+    // host 공모전 수 +1, 사전에 있는 host 인스턴스를 반환 (같은 host 문자열을 공모전마다 따로 들고 있지 않도록)
+    private String addLocked(String host) {
+        HostCount entry = counts.get(host);
+        if (entry == null) {
+            entry = new HostCount(host);
+            counts.put(host, entry);
+            snapshot = null;
+        }
+        entry.count++;
+        if (snapshot != null) {
+            snapshot = snapshot.withCount(entry.host, entry.count);
+        }
+        return entry.host;
+    }
+
+    private void removeLocked(Long competitionId) {
+        String previous = hostById.remove(competitionId);
+        if (previous == null) {
+            return;
+        }
+        HostCount entry = counts.get(previous);
+        if (--entry.count <= 0) {
+            counts.remove(previous);
+            snapshot = null;
+        } else if (snapshot != null) {
+            snapshot = snapshot.withCount(previous, entry.count);
+        }
+    }
+
+    // 대소문자 무시 + 연속 공백은 하나로
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 조회용 불변 구조 (host 배열 + 접미사 배열)
+    private static final class Snapshot {
+        private final String[] hosts;
+        private final int[] counts;
+        // 정규화한 host 의 각 위치부터의 접미사를 정렬한 배열과, 각 접미사가 속한 host 번호 / 시작 위치
+        private final String[] suffixes;
+        private final int[] suffixHost;
+        private final int[] suffixOffset;
+
+        private Snapshot(String[] hosts, int[] counts, String[] suffixes, int[] suffixHost, int[] suffixOffset) {
+            this.hosts = hosts;
+            this.counts = counts;
+            this.suffixes = suffixes;
+            this.suffixHost = suffixHost;
+            this.suffixOffset = suffixOffset;
+        }
+
+        private static Snapshot build(Map<String, HostCount> source) {
+            String[] hosts = source.keySet().toArray(new String[0]);
+            Arrays.sort(hosts);
+            int[] counts = new int[hosts.length];
+            List<Suffix> suffixList = new ArrayList<>();
+            for (int i = 0; i < hosts.length; i++) {
+                counts[i] = source.get(hosts[i]).count;
+                String normalized = normalize(hosts[i]);
+                for (int offset = 0; offset < normalized.length(); offset++) {
+                    if (normalized.charAt(offset) != ' ') {
+                        suffixList.add(new Suffix(normalized.substring(offset), i, offset));
+                    }
+                }
+            }
+            suffixList.sort(Comparator.comparing(suffix -> suffix.text));
+
+            String[] suffixes = new String[suffixList.size()];
+            int[] suffixHost = new int[suffixList.size()];
+            int[] suffixOffset = new int[suffixList.size()];
+            for (int i = 0; i < suffixes.length; i++) {
+                Suffix suffix = suffixList.get(i);
+                suffixes[i] = suffix.text;
+                suffixHost[i] = suffix.host;
+                suffixOffset[i] = suffix.offset;
+            }
+            return new Snapshot(hosts, counts, suffixes, suffixHost, suffixOffset);
+        }
+
+        // 공모전 수만 바뀐 경우 접미사 배열은 그대로 두고 수만 교체
+        private Snapshot withCount(String host, int count) {
+            int index = Arrays.binarySearch(hosts, host);
+            if (index < 0) {
+                return null;
+            }
+            int[] updated = counts.clone();
+            updated[index] = count;
+            return new Snapshot(hosts, updated, suffixes, suffixHost, suffixOffset);
+        }
+
+        private List<HostSuggestionDTO> suggest(String query, int limit) {
+            // query 로 시작하는 접미사 구간 [from, 끝) 을 이분 탐색으로 찾음
+            int from = lowerBound(query);
+            // host 번호 -> 접두 일치 여부 (중간 일치만 있으면 false)
+            Map<Integer, Boolean> matched = new HashMap<>();
+            for (int i = from; i < suffixes.length && suffixes[i].startsWith(query); i++) {
+                matched.merge(suffixHost[i], suffixOffset[i] == 0, Boolean::logicalOr);
+            }
+
+            // 접두 일치 -> 공모전 수 -> 이름 순으로 상위 limit 개 (최소 힙)
+            Comparator<Map.Entry<Integer, Boolean>> order = Comparator
+                    .comparing((Map.Entry<Integer, Boolean> entry) -> entry.getValue())
+                    .thenComparingInt(entry -> counts[entry.getKey()])
+                    .thenComparing(entry -> hosts[entry.getKey()], Comparator.reverseOrder());
+            PriorityQueue<Map.Entry<Integer, Boolean>> top = new PriorityQueue<>(limit + 1, order);
+            for (Map.Entry<Integer, Boolean> entry : matched.entrySet()) {
+                top.add(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<HostSuggestionDTO> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int host = top.poll().getKey();
+                result.add(new HostSuggestionDTO(hosts[host], counts[host]));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (suffixes[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class HostCount {
+        private final String host;
+        private int count;
+
+        private HostCount(String host) {
+            this.host = host;
+        }
+    }
+
+    private static final class Suffix {
+        private final String text;
+        private final int host;
+        private final int offset;
+
+        private Suffix(String text, int host, int offset) {
+            this.text = text;
+            this.host = host;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.capstone.quicklendar.service.competition.importer;
+
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import com.capstone.quicklendar.util.dto.CompetitionFormDTO;
+import com.capstone.quicklendar.util.dto.CompetitionImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// 공모전 대량 등록 (NDJSON / CSV)
+// 한 행씩 읽어 검증하고, 정상 행을 batch-size 개씩 모아 배치마다 별도 트랜잭션에서 multi-row INSERT
+// 자연 키(이름 + 주최 + 시작일)가 이미 있는 행은 건너뛰므로 같은 파일을 다시 올려도 중복 저장되지 않음
+@Service
+public class CompetitionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionImportService.class);
+
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_BYTES = 65_535;
+
+    private final CompetitionRepository competitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public CompetitionImportService(CompetitionRepository competitionRepository, ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                    @Value("${competition.import.batch-size:200}") int batchSize,
+                                    @Value("${competition.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.competitionRepository = competitionRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    // 한 줄에 공모전 JSON 하나 (빈 줄은 무시, 행 번호 = 줄 번호)
+    public CompetitionImportResult importNdjson(InputStream in) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.result.addTotal();
+            try {
+                run.accept(lineNumber, objectMapper.readValue(line, CompetitionFormDTO.class));
+            } catch (JsonProcessingException e) {
+                run.result.addError(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        run.flush();
+        return run.result;
+    }
+
+    // 첫 행은 헤더 (필드 이름은 camelCase 또는 snake_case, 대소문자 무시), 행 번호 = 레코드가 시작된 줄 번호
+    public CompetitionImportResult importCsv(InputStream in) throws IOException {
+        ImportRun run = new ImportRun();
+        CsvRowReader reader = new CsvRowReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            List<String> header = reader.next();
+            if (header == null) {
+                return run.result;
+            }
+            String[] columns = new String[header.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = normalizeColumn(header.get(i));
+            }
+
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                run.result.addTotal();
+                long row = reader.getRecordLine();
+                if (record.size() != columns.length) {
+                    run.result.addError(row, "expected " + columns.length + " columns but found " + record.size());
+                    continue;
+                }
+                try {
+                    run.accept(row, toForm(columns, record));
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    run.result.addError(row, e.getMessage());
+                }
+            }
+        } catch (CsvRowReader.CsvFormatException e) {
+            // 닫히지 않은 따옴표 이후로는 레코드 경계를 알 수 없으므로 거기서 중단
+            run.result.addTotal();
+            run.result.addError(e.getLine(), e.getMessage());
+        }
+        run.flush();
+        return run.result;
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static CompetitionFormDTO toForm(String[] columns, List<String> record) {
+        CompetitionFormDTO form = new CompetitionFormDTO();
+        for (int i = 0; i < columns.length; i++) {
+            String value = record.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns[i]) {
+                case "name" -> form.setName(value);
+                case "description" -> form.setDescription(value);
+                case "startdate" -> form.setStartDate(LocalDate.parse(value));
+                case "enddate" -> form.setEndDate(LocalDate.parse(value));
+                case "requeststartdate" -> form.setRequestStartDate(LocalDate.parse(value));
+                case "requestenddate" -> form.setRequestEndDate(LocalDate.parse(value));
+                case "requestpath" -> form.setRequestPath(value);
+                case "location" -> form.setLocation(value);
+                case "support" -> form.setSupport(value);
+                case "host" -> form.setHost(value);
+                case "category" -> form.setCategory(parseEnum(Category.class, "category", value));
+                case "competitiontype" -> form.setCompetitionType(parseEnum(CompetitionType.class, "competitionType", value));
+                default -> {
+                    // 알 수 없는 열은 무시
+                }
+            }
+        }
+        return form;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String field, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + field + ": " + value);
+        }
+    }
+
+    // 필수 값/기간/길이 검증, 문제가 없으면 null
+    private static String validate(CompetitionFormDTO form) {
+        if (isBlank(form.getName())) return "name is required";
+        if (isBlank(form.getHost())) return "host is required";
+        if (isBlank(form.getRequestPath())) return "requestPath is required";
+        if (form.getCategory() == null) return "category is required";
+        if (form.getCompetitionType() == null) return "competitionType is required";
+        if (form.getStartDate() == null || form.getEndDate() == null) return "startDate and endDate are required";
+        if (form.getRequestStartDate() == null || form.getRequestEndDate() == null) {
+            return "requestStartDate and requestEndDate are required";
+        }
+        if (form.getEndDate().isBefore(form.getStartDate())) return "endDate is before startDate";
+        if (form.getRequestEndDate().isBefore(form.getRequestStartDate())) return "requestEndDate is before requestStartDate";
+        for (String value : new String[]{form.getName(), form.getRequestPath(),
+                form.getLocation(), form.getSupport(), form.getHost()}) {
+            if (value != null && value.length() > MAX_TEXT_LENGTH) {
+                return "text fields must be at most " + MAX_TEXT_LENGTH + " characters";
+            }
+        }
+        // description 은 TEXT 컬럼 (MySQL 기준 최대 65,535 바이트)
+        if (form.getDescription() != null
+                && form.getDescription().getBytes(StandardCharsets.UTF_8).length > MAX_DESCRIPTION_BYTES) {
+            return "description must be at most " + MAX_DESCRIPTION_BYTES + " bytes";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Competition toEntity(CompetitionFormDTO form) {
+        Competition competition = new Competition();
+        competition.setName(form.getName().trim());
+        competition.setDescription(form.getDescription());
+        competition.setStartDate(form.getStartDate());
+        competition.setEndDate(form.getEndDate());
+        competition.setRequestStartDate(form.getRequestStartDate());
+        competition.setRequestEndDate(form.getRequestEndDate());
+        competition.setRequestPath(form.getRequestPath());
+        competition.setLocation(form.getLocation());
+        competition.setSupport(form.getSupport());
+        competition.setHost(form.getHost().trim());
+        competition.setCategory(form.getCategory());
+        competition.setCompetitionType(form.getCompetitionType());
+        return competition;
+    }
+
+    // 한 번의 등록 요청 상태 (파일 안 중복 키, 모으는 중인 배치, 결과)
+    private class ImportRun {
+        private final CompetitionImportResult result = new CompetitionImportResult(maxReportedErrors);
+        private final Set<NaturalKey> seen = new HashSet<>();
+        private final List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        private void accept(long row, CompetitionFormDTO form) {
+            String error = form == null ? "empty row" : validate(form);
+            if (error != null) {
+                result.addError(row, error);
+                return;
+            }
+            Competition competition = toEntity(form);
+            if (!seen.add(NaturalKey.of(competition))) {
+                // 같은 파일 안에서 반복된 행
+                result.addSkipped(1);
+                return;
+            }
+            batch.add(new ImportRow(row, competition));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                int inserted = transactionTemplate.execute(status -> insertNew(batch));
+                result.addInserted(inserted);
+                result.addSkipped(batch.size() - inserted);
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 행이 등록되는 등 배치 안 어딘가가 실패 -> 한 행씩 다시 시도해 실패 행만 보고
+                log.debug("competition import batch failed, retrying row by row", e);
+                for (ImportRow importRow : batch) {
+                    insertOne(importRow);
+                }
+            }
+            batch.clear();
+        }
+
+        private void insertOne(ImportRow importRow) {
+            try {
+                int inserted = transactionTemplate.execute(status -> insertNew(List.of(importRow)));
+                if (inserted == 1) {
+                    result.addInserted(1);
+                } else {
+                    result.addSkipped(1);
+                }
+            } catch (DataIntegrityViolationException e) {
+                Throwable cause = e.getMostSpecificCause();
+                result.addError(importRow.row, "rejected by database: " + cause.getMessage());
+            }
+        }
+    }
+
+    // 이미 저장된 자연 키를 제외하고 INSERT, 저장된 공모전은 다시 읽어 변경 이벤트 발행 (트랜잭션 안에서 호출)
+    private int insertNew(List<ImportRow> rows) {
+        Set<String> names = new HashSet<>();
+        rows.forEach(row -> names.add(row.competition.getName()));
+        Set<NaturalKey> existing = new HashSet<>();
+        competitionRepository.findByNameIn(names).forEach(competition -> existing.add(NaturalKey.of(competition)));
+
+        List<Competition> fresh = new ArrayList<>(rows.size());
+        Set<NaturalKey> freshKeys = new HashSet<>();
+        for (ImportRow row : rows) {
+            NaturalKey key = NaturalKey.of(row.competition);
+            if (!existing.contains(key)) {
+                fresh.add(row.competition);
+                freshKeys.add(key);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = competitionRepository.insertAll(fresh);
+
+        // 검색/캘린더 색인과 캐시는 엔티티(id 포함)가 필요하므로 방금 저장한 행을 다시 읽음
+        Map<NaturalKey, Competition> saved = new HashMap<>();
+        competitionRepository.findByNameIn(names).forEach(competition -> saved.put(NaturalKey.of(competition), competition));
+        for (NaturalKey key : freshKeys) {
+            Competition competition = saved.get(key);
+            if (competition != null) {
+                eventPublisher.publishEvent(CompetitionChangedEvent.created(competition));
+            }
+        }
+        return inserted;
+    }
+
+    private static final class ImportRow {
+        private final long row;
+        private final Competition competition;
+
+        private ImportRow(long row, Competition competition) {
+            this.row = row;
+            this.competition = competition;
+        }
+    }
+
+    // 자연 키 (이름 + 주최 + 시작일)
+    private static final class NaturalKey {
+        private final String name;
+        private final String host;
+        private final LocalDate startDate;
+
+        private NaturalKey(String name, String host, LocalDate startDate) {
+            this.name = name;
+            this.host = host;
+            this.startDate = startDate;
+        }
+
+        private static NaturalKey of(Competition competition) {
+            return new NaturalKey(competition.getName(), competition.getHost(), competition.getStartDate());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NaturalKey other)) return false;
+            return name.equals(other.name) && Objects.equals(host, other.host) && startDate.equals(other.startDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, host, startDate);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.capstone.quicklendar.service.competition.like;
+
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.repository.competition.CompetitionLikeRepository;
+import com.capstone.quicklendar.util.bitmap.CompressedBitmap;
+import com.capstone.quicklendar.util.cache.TinyLfuCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 좋아요 인메모리 색인 (사용자별 좋아요한 공모전 id, 공모전별 좋아요한 사용자 id 를 압축 비트맵으로)
+// 처음 조회할 때 DB 에서 읽어 적재하고, 이후에는 좋아요 변경 이벤트(커밋 후)로 갱신
+// 사용자/공모전 수는 각각 W-TinyLFU 캐시로 제한 (자주 안 쓰는 사용자의 비트맵부터 밀려남)
+@Component
+public class CompetitionLikeIndex {
+
+    private final CompetitionLikeRepository competitionLikeRepository;
+    private final TinyLfuCache<Long, CompressedBitmap> byUser;
+    private final TinyLfuCache<Long, CompressedBitmap> byCompetition;
+
+    public CompetitionLikeIndex(CompetitionLikeRepository competitionLikeRepository,
+                                @Value("${competition.like-index.max-users:50000}") int maxUsers,
+                                @Value("${competition.like-index.max-competitions:10000}") int maxCompetitions) {
+        this.competitionLikeRepository = competitionLikeRepository;
+        this.byUser = new TinyLfuCache<>("likesByUser", maxUsers, maxUsers, bitmap -> 1);
+        this.byCompetition = new TinyLfuCache<>("likesByCompetition", maxCompetitions, maxCompetitions, bitmap -> 1);
+    }
+
+    // 사용자가 좋아요한 공모전인지
+    public boolean isLiked(Long userId, Long competitionId) {
+        CompressedBitmap liked = likedByUser(userId);
+        synchronized (liked) {
+            return liked.contains(toInt(competitionId));
+        }
+    }
+
+    // 공모전 id 목록 중 사용자가 좋아요한 것 (비트맵 한 번 조회)
+    public boolean[] areLiked(Long userId, List<Long> competitionIds) {
+        CompressedBitmap liked = likedByUser(userId);
+        boolean[] result = new boolean[competitionIds.size()];
+        synchronized (liked) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = liked.contains(toInt(competitionIds.get(i)));
+            }
+        }
+        return result;
+    }
+
+    // 사용자가 좋아요한 공모전 id (오름차순)
+    public int[] competitionsLikedBy(Long userId) {
+        CompressedBitmap liked = likedByUser(userId);
+        synchronized (liked) {
+            return liked.toArray();
+        }
+    }
+
+    // 공모전을 좋아요한 사용자 id (오름차순)
+    public int[] usersWhoLiked(Long competitionId) {
+        CompressedBitmap users = load(byCompetition, competitionId, competitionLikeRepository::findUserIdsByCompetitionId);
+        synchronized (users) {
+            return users.toArray();
+        }
+    }
+
+    // 이 색인을 읽는 다른 리스너(연관 공모전, iCalendar 피드 등)보다 먼저 갱신
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(CompetitionLikeChangedEvent event) {
+        apply(byUser, event.getUserId(), event.getCompetitionId(), event.isLiked());
+        apply(byCompetition, event.getCompetitionId(), event.getUserId(), event.isLiked());
+    }
+
+    // 삭제된 공모전은 사용자 비트맵에 남아 있어도 조회 결과에 영향이 없으므로 공모전 쪽만 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            byCompetition.invalidate(event.getCompetitionId());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(byUser.getName(), byUser.stats(), byCompetition.getName(), byCompetition.stats());
+    }
+
+    private CompressedBitmap likedByUser(Long userId) {
+        return load(byUser, userId, competitionLikeRepository::findCompetitionIdsByUserId);
+    }
+
+    // 캐시에 없으면 DB 에서 적재 (적재 중에 같은 키가 무효화되면 결과를 캐시에 넣지 않음 -> TinyLfuCache.get 의 세대 비교)
+    private static CompressedBitmap load(TinyLfuCache<Long, CompressedBitmap> cache, Long key,
+                                         Function<Long, List<Long>> loader) {
+        return cache.get(key, k -> {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            for (Long id : loader.apply(k)) {
+                bitmap.add(toInt(id));
+            }
+            return bitmap;
+        });
+    }
+
+    // 적재된 비트맵은 그 자리에서 고치고, 없으면 무효화해서 진행 중인 적재가 이전 상태를 캐시에 넣지 못하게 함
+    private static void apply(TinyLfuCache<Long, CompressedBitmap> cache, Long key, Long member, boolean add) {
+        CompressedBitmap bitmap = cache.peek(key);
+        if (bitmap == null) {
+            cache.invalidate(key);
+            return;
+        }
+        synchronized (bitmap) {
+            if (add) {
+                bitmap.add(toInt(member));
+            } else {
+                bitmap.remove(toInt(member));
+            }
+        }
+    }
+
+    private static int toInt(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,420 @@
+package com.capstone.quicklendar.service.competition.related;
+
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.repository.competition.CompetitionLikeRepository;
+import com.capstone.quicklendar.service.competition.like.CompetitionLikeIndex;
+import com.capstone.quicklendar.util.collection.LongFloatHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// "이 공모전을 좋아요한 사용자가 좋아요한 다른 공모전" (좋아요 동시 발생 기반 연관 공모전)
+// 공모전별로 함께 좋아요된 공모전 수를 희소 행렬 한 행(long -> float 맵)에 두고, 코사인 유사도 상위 N 개를 미리 계산해 둠
+// -> 조회는 계산된 상위 N 배열을 읽기만 함 (조인 없음)
+// 좋아요/취소 이벤트마다 해당 사용자의 다른 좋아요 수만큼 행을 고치고 바뀐 행은 refresh-ms 마다 상위 N 을 다시 계산
+// 매일 밤 DB 전체로 행렬을 fork-join 병렬 작업으로 다시 만들어 누적 오차를 정리
+@Component
+public class RelatedCompetitionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedCompetitionIndex.class);
+
+    // fork-join 작업을 더 나누지 않는 공모전 수
+    private static final int SPLIT_THRESHOLD = 64;
+
+    private final CompetitionLikeRepository competitionLikeRepository;
+    private final CompetitionLikeIndex likeIndex;
+    private final int topN;
+    private final int maxUserLikes;
+    private final int parallelism;
+
+    // 공모전 id -> 행 (쓰기는 모두 this 로 동기화, 조회는 Row.top 만 읽음)
+    private volatile Map<Long, Row> rows = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+
+    // 전체 재계산 중에 들어온 좋아요 변경 (새 행렬에 다시 반영)
+    private List<CompetitionLikeChangedEvent> pendingDuringRebuild;
+
+    private volatile long lastRebuildMillis;
+    private volatile int lastRebuildUsers;
+    private volatile int lastRebuildSkippedUsers;
+
+    public RelatedCompetitionIndex(CompetitionLikeRepository competitionLikeRepository, CompetitionLikeIndex likeIndex,
+                                   @Value("${competition.related.top-n:20}") int topN,
+                                   @Value("${competition.related.max-user-likes:500}") int maxUserLikes,
+                                   @Value("${competition.related.parallelism:0}") int parallelism) {
+        this.competitionLikeRepository = competitionLikeRepository;
+        this.likeIndex = likeIndex;
+        this.topN = topN;
+        this.maxUserLikes = maxUserLikes;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 연관 공모전 id 최대 size 개 (유사도 내림차순, 아직 계산되지 않았으면 빈 목록)
+    public List<Long> related(Long competitionId, int size) {
+        Row row = rows.get(competitionId);
+        if (row == null) {
+            return List.of();
+        }
+        long[] top = row.top;
+        int count = Math.min(Math.max(size, 0), top.length);
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(top[i]);
+        }
+        return ids;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLikeChanged(CompetitionLikeChangedEvent event) {
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(event);
+        }
+        apply(rows, event);
+    }
+
+    // 삭제된 공모전은 행과 다른 행의 해당 칸을 지움 (상위 N 에 남은 id 는 DTO 조회 단계에서 걸러짐)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() != CompetitionChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        Long competitionId = event.getCompetitionId();
+        Row removed = rows.remove(competitionId);
+        if (removed != null) {
+            removed.cooccurrences.forEach((other, count) -> {
+                Row row = rows.get(other);
+                if (row != null && row.cooccurrences.remove(competitionId)) {
+                    dirty.add(other);
+                }
+            });
+        }
+        dirty.remove(competitionId);
+    }
+
+    // 바뀐 행의 상위 N 다시 계산
+    @Scheduled(fixedDelayString = "${competition.related.refresh-ms:5000}")
+    public synchronized void refreshDirty() {
+        for (Long competitionId : dirty) {
+            Row row = rows.get(competitionId);
+            if (row != null) {
+                row.top = topOf(row, rows);
+            }
+        }
+        dirty.clear();
+    }
+
+    // DB 의 전체 좋아요로 행렬을 다시 만들고 교체
+    // 재계산 중의 좋아요 변경은 모아 두었다가 새 행렬에 다시 반영 (읽기 직전/직후 경계의 변경은 한 번 더 세어질 수 있으나 다음 재계산에서 정리됨)
+    @Scheduled(cron = "${competition.related.rebuild-cron:0 30 3 * * *}", zone = "${competition.deadline.zone:Asia/Seoul}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Map<Long, Row> rebuilt;
+        try {
+            rebuilt = build(loadLikes());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            dirty.clear();
+            for (CompetitionLikeChangedEvent event : pendingDuringRebuild) {
+                apply(rebuilt, event);
+            }
+            pendingDuringRebuild = null;
+            rows = rebuilt;
+            refreshDirty();
+        }
+        lastRebuildMillis = System.currentTimeMillis() - started;
+        log.info("related competitions rebuilt: {} competitions, {} users ({} skipped) in {} ms",
+                rebuilt.size(), lastRebuildUsers, lastRebuildSkippedUsers, lastRebuildMillis);
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long[] cells = {0, 0};
+        rows.values().forEach(row -> {
+            cells[0] += row.cooccurrences.size();
+            cells[1] += row.cooccurrences.sizeInBytes();
+        });
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("competitions", rows.size());
+        stats.put("cooccurrenceCells", cells[0]);
+        stats.put("approximateBytes", cells[1]);
+        stats.put("dirtyRows", dirty.size());
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        stats.put("lastRebuildUsers", lastRebuildUsers);
+        stats.put("lastRebuildSkippedUsers", lastRebuildSkippedUsers);
+        return stats;
+    }
+
+    // 좋아요 하나를 행렬에 반영: 같은 사용자의 다른 좋아요 공모전과의 칸을 +-1
+    // 좋아요가 max-user-likes 를 넘는 사용자는 (전체 재계산과 같이) 동시 발생에 넣지 않음
+    private void apply(Map<Long, Row> target, CompetitionLikeChangedEvent event) {
+        long competitionId = event.getCompetitionId();
+        int delta = event.isLiked() ? 1 : -1;
+        Row row = target.computeIfAbsent(competitionId, id -> new Row(8));
+        row.likes = Math.max(0, row.likes + delta);
+        dirty.add(competitionId);
+
+        int[] others = likeIndex.competitionsLikedBy(event.getUserId());
+        if (others.length > maxUserLikes) {
+            return;
+        }
+        for (int other : others) {
+            if (other == competitionId) {
+                continue;
+            }
+            Row otherRow = target.get((long) other);
+            if (otherRow == null) {
+                continue;
+            }
+            add(row, other, delta);
+            add(otherRow, competitionId, delta);
+            dirty.add((long) other);
+        }
+    }
+
+    private static void add(Row row, long other, int delta) {
+        if (row.cooccurrences.addTo(other, delta) <= 0) {
+            row.cooccurrences.remove(other);
+        }
+    }
+
+    // 전체 좋아요를 사용자별로 묶어 읽음 (좋아요 수가 max-user-likes 를 넘는 사용자는 제외)
+    private LikeMatrix loadLikes() {
+        LikeMatrix matrix = new LikeMatrix();
+        List<Long> current = new ArrayList<>();
+        long[] currentUser = {-1};
+        int[] skipped = {0};
+        competitionLikeRepository.forEachLikeOrderByUser((userId, competitionId) -> {
+            if (userId != currentUser[0]) {
+                skipped[0] += matrix.addUser(current, maxUserLikes) ? 0 : 1;
+                current.clear();
+                currentUser[0] = userId;
+            }
+            matrix.countLike(competitionId);
+            current.add(competitionId);
+        });
+        skipped[0] += matrix.addUser(current, maxUserLikes) ? 0 : 1;
+        lastRebuildUsers = matrix.userCount();
+        lastRebuildSkippedUsers = skipped[0];
+        return matrix;
+    }
+
+    // 공모전 구간을 나눠 병렬로 행 계산 (행끼리 독립이므로 합치는 단계 없음)
+    private Map<Long, Row> build(LikeMatrix likes) {
+        CompactLikes compact = likes.compact();
+        Row[] built = new Row[compact.competitionIds.length];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new BuildRows(compact, built, 0, built.length));
+        } finally {
+            pool.shutdown();
+        }
+
+        Map<Long, Row> rebuilt = new ConcurrentHashMap<>(Math.max(16, built.length * 2));
+        for (int i = 0; i < built.length; i++) {
+            rebuilt.put(compact.competitionIds[i], built[i]);
+        }
+        for (int i = 0; i < built.length; i++) {
+            built[i].top = topOf(built[i], rebuilt);
+        }
+        return rebuilt;
+    }
+
+    // 코사인 유사도 = 동시 좋아요 수 / sqrt(두 공모전 좋아요 수의 곱), 상위 N 개 (동점이면 id 오름차순)
+    private long[] topOf(Row row, Map<Long, Row> source) {
+        PriorityQueue<double[]> heap = new PriorityQueue<>(topN + 1, (a, b) -> a[0] != b[0]
+                ? Double.compare(a[0], b[0]) : Double.compare(b[1], a[1]));
+        row.cooccurrences.forEach((other, count) -> {
+            Row otherRow = source.get(other);
+            if (otherRow == null || otherRow.likes == 0 || row.likes == 0) {
+                return;
+            }
+            double score = count / Math.sqrt((double) row.likes * otherRow.likes);
+            if (heap.size() < topN) {
+                heap.add(new double[]{score, other});
+            } else if (score > heap.peek()[0] || (score == heap.peek()[0] && other < heap.peek()[1])) {
+                heap.poll();
+                heap.add(new double[]{score, other});
+            }
+        });
+        long[] top = new long[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = (long) heap.poll()[1];
+        }
+        return top;
+    }
+
+    // 공모전 하나의 행: 좋아요 수, 함께 좋아요된 공모전 id -> 횟수, 계산된 상위 N
+    private static final class Row {
+        private final LongFloatHashMap cooccurrences;
+        private int likes;
+        private volatile long[] top = new long[0];
+
+        private Row(int expectedSize) {
+            this.cooccurrences = new LongFloatHashMap(expectedSize);
+        }
+    }
+
+    // 재계산 입력 수집용 (사용자별 좋아요 공모전 id 와 공모전별 좋아요 수)
+    private static final class LikeMatrix {
+        private final Map<Long, Integer> likeCounts = new HashMap<>();
+        private final List<long[]> users = new ArrayList<>();
+
+        private void countLike(long competitionId) {
+            likeCounts.merge(competitionId, 1, Integer::sum);
+        }
+
+        private boolean addUser(List<Long> competitionIds, int maxUserLikes) {
+            if (competitionIds.isEmpty()) {
+                return true;
+            }
+            if (competitionIds.size() > maxUserLikes) {
+                return false;
+            }
+            users.add(competitionIds.stream().mapToLong(Long::longValue).toArray());
+            return true;
+        }
+
+        private int userCount() {
+            return users.size();
+        }
+
+        // 공모전 id 를 0 부터의 조밀한 번호로 바꾸고, 공모전 -> 사용자 / 사용자 -> 공모전 을 CSR 배열로
+        private CompactLikes compact() {
+            long[] competitionIds = likeCounts.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] likes = new int[competitionIds.length];
+            for (int i = 0; i < competitionIds.length; i++) {
+                likes[i] = likeCounts.get(competitionIds[i]);
+            }
+
+            int[] userOffsets = new int[users.size() + 1];
+            for (int u = 0; u < users.size(); u++) {
+                userOffsets[u + 1] = userOffsets[u] + users.get(u).length;
+            }
+            int[] userItems = new int[userOffsets[users.size()]];
+            int[] itemOffsets = new int[competitionIds.length + 1];
+            for (int u = 0; u < users.size(); u++) {
+                long[] items = users.get(u);
+                for (int k = 0; k < items.length; k++) {
+                    int item = Arrays.binarySearch(competitionIds, items[k]);
+                    userItems[userOffsets[u] + k] = item;
+                    itemOffsets[item + 1]++;
+                }
+            }
+            for (int i = 0; i < competitionIds.length; i++) {
+                itemOffsets[i + 1] += itemOffsets[i];
+            }
+            int[] itemUsers = new int[itemOffsets[competitionIds.length]];
+            int[] fill = Arrays.copyOf(itemOffsets, competitionIds.length);
+            for (int u = 0; u < users.size(); u++) {
+                for (int k = userOffsets[u]; k < userOffsets[u + 1]; k++) {
+                    itemUsers[fill[userItems[k]]++] = u;
+                }
+            }
+            return new CompactLikes(competitionIds, likes, userOffsets, userItems, itemOffsets, itemUsers);
+        }
+    }
+
+    private static final class CompactLikes {
+        private final long[] competitionIds;
+        private final int[] likes;
+        private final int[] userOffsets;
+        private final int[] userItems;
+        private final int[] itemOffsets;
+        private final int[] itemUsers;
+
+        private CompactLikes(long[] competitionIds, int[] likes, int[] userOffsets, int[] userItems,
+                             int[] itemOffsets, int[] itemUsers) {
+            this.competitionIds = competitionIds;
+            this.likes = likes;
+            this.userOffsets = userOffsets;
+            this.userItems = userItems;
+            this.itemOffsets = itemOffsets;
+            this.itemUsers = itemUsers;
+        }
+    }
+
+    // 공모전 [from, to) 의 행 계산: 공모전 -> 좋아요한 사용자 -> 그 사용자가 좋아요한 공모전 순으로 세어 행 하나씩 채움
+    private static final class BuildRows extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CompactLikes likes;
+        private final Row[] built;
+        private final int from;
+        private final int to;
+
+        private BuildRows(CompactLikes likes, Row[] built, int from, int to) {
+            this.likes = likes;
+            this.built = built;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BuildRows(likes, built, from, middle), new BuildRows(likes, built, middle, to));
+                return;
+            }
+            // 작업 하나가 재사용하는 조밀 누적 배열 + 건드린 칸 목록
+            int[] counts = new int[likes.competitionIds.length];
+            int[] touched = new int[likes.competitionIds.length];
+            for (int item = from; item < to; item++) {
+                int touchedCount = 0;
+                for (int k = likes.itemOffsets[item]; k < likes.itemOffsets[item + 1]; k++) {
+                    int user = likes.itemUsers[k];
+                    for (int m = likes.userOffsets[user]; m < likes.userOffsets[user + 1]; m++) {
+                        int other = likes.userItems[m];
+                        if (other != item && counts[other]++ == 0) {
+                            touched[touchedCount++] = other;
+                        }
+                    }
+                }
+                Row row = new Row(touchedCount);
+                row.likes = likes.likes[item];
+                for (int t = 0; t < touchedCount; t++) {
+                    int other = touched[t];
+                    row.cooccurrences.put(likes.competitionIds[other], counts[other]);
+                    counts[other] = 0;
+                }
+                built[item] = row;
+            }
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.capstone.quicklendar.service.competition.search;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import com.capstone.quicklendar.util.dto.CompetitionCursor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공모전 name/description/host/support/location 전문 검색용 인메모리 역색인 (BM25 랭킹)
+// 등록/수정/삭제 이벤트로 증분 갱신하고, 스냅샷 파일로 재시작 시 전체 재색인을 피함
+@Component
+public class CompetitionSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionSearchIndex.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x51434958; // "QCIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드 가중치 (term frequency 에 곱해짐)
+    private static final int NAME_WEIGHT = 3;
+    private static final int HOST_WEIGHT = 2;
+    private static final int DEFAULT_WEIGHT = 1;
+
+    private final CompetitionRepository competitionRepository;
+    private final Path snapshotPath;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 주기 저장과 종료 시 저장이 같은 임시 파일에 동시에 쓰지 않도록 직렬화
+    private final Object snapshotLock = new Object();
+    // term -> (competitionId -> 가중 tf)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // competitionId -> (term -> 가중 tf), 문서 삭제/수정 시 posting 제거용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    private volatile boolean dirty;
+    private volatile boolean ready;
+
+    public CompetitionSearchIndex(CompetitionRepository competitionRepository,
+                                  @Value("${competition.search.snapshot-path:./data/competition-search.idx}") String snapshotPath) {
+        this.competitionRepository = competitionRepository;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    // 기동 시 스냅샷을 읽고 이후 변경분만 반영, 스냅샷이 없거나 깨졌으면 전체 재색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+        LocalDateTime snapshotTime = loadSnapshot();
+        if (snapshotTime != null) {
+            catchUp(snapshotTime);
+        } else {
+            rebuild();
+        }
+        ready = true;
+        log.info("competition search index ready: {} documents, {} terms in {} ms",
+                documentCount(), termCount(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            remove(event.getCompetitionId());
+        } else {
+            index(event.getCompetition());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Competition competition) {
+        Map<String, Integer> terms = new HashMap<>();
+        addField(terms, competition.getName(), NAME_WEIGHT);
+        addField(terms, competition.getHost(), HOST_WEIGHT);
+        addField(terms, competition.getDescription(), DEFAULT_WEIGHT);
+        addField(terms, competition.getSupport(), DEFAULT_WEIGHT);
+        addField(terms, competition.getLocation(), DEFAULT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(competition.getId());
+            putLocked(competition.getId(), terms);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long competitionId) {
+        lock.writeLock().lock();
+        try {
+            if (removeLocked(competitionId)) {
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // BM25 점수 상위 limit 개의 공모전 id (점수 내림차순)
+    public List<Long> search(String query, int limit) {
+        Set<String> queryTerms = new HashSet<>(SearchTokenizer.tokenize(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return Collections.emptyList();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int df = posting.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    double tf = entry.getValue();
+                    double norm = K1 * (1 - B + B * documentLengths.get(entry.getKey()) / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 limit 개만 힙으로 유지
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // DB 전체를 id 순 키셋 페이지로 읽어 재색인
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        CompetitionCursor cursor = null;
+        List<Competition> batch;
+        do {
+            batch = competitionRepository.findPageAfter(null, CompetitionSort.ID, cursor, REBUILD_BATCH_SIZE);
+            batch.forEach(this::index);
+            if (!batch.isEmpty()) {
+                cursor = CompetitionCursor.of(batch.get(batch.size() - 1), CompetitionSort.ID);
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        dirty = true;
+    }
+
+    // 스냅샷 이후 변경/삭제된 공모전만 반영
+    private void catchUp(LocalDateTime snapshotTime) {
+        List<Competition> changed = competitionRepository.findChangedSince(snapshotTime);
+        changed.forEach(this::index);
+
+        Set<Long> existing = new HashSet<>(competitionRepository.findAllIds());
+        List<Long> stale = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : documents.keySet()) {
+                if (!existing.contains(id)) {
+                    stale.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        stale.forEach(this::remove);
+        log.info("competition search index caught up from snapshot: {} changed, {} removed", changed.size(), stale.size());
+    }
+
+    @Scheduled(fixedDelayString = "${competition.search.snapshot-interval-ms:300000}")
+    public void scheduledSnapshot() {
+        if (ready && dirty) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ready && dirty) {
+            writeSnapshot();
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체
+    void writeSnapshot() {
+        synchronized (snapshotLock) {
+            writeSnapshotLocked();
+        }
+    }
+
+    private void writeSnapshotLocked() {
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try {
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+            // 저장 직후 아직 색인되지 않은 변경을 놓치지 않도록 여유를 두고 기록 (warm start 시 조금 더 재색인)
+            LocalDateTime takenAt = LocalDateTime.now().minusMinutes(1);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(takenAt.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(documents.size());
+                for (Map.Entry<Long, Map<String, Integer>> document : documents.entrySet()) {
+                    out.writeLong(document.getKey());
+                    out.writeInt(document.getValue().size());
+                    for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                        out.writeUTF(term.getKey());
+                        out.writeInt(term.getValue());
+                    }
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            log.warn("failed to write competition search snapshot to {}", snapshotPath, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 스냅샷 시각 반환, 읽을 수 없으면 null
+    private LocalDateTime loadSnapshot() {
+        if (!Files.isReadable(snapshotPath)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("ignoring incompatible competition search snapshot {}", snapshotPath);
+                return null;
+            }
+            LocalDateTime takenAt = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+            int documentCount = in.readInt();
+
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < documentCount; i++) {
+                    long id = in.readLong();
+                    int termCount = in.readInt();
+                    Map<String, Integer> terms = new HashMap<>(termCount * 2);
+                    for (int j = 0; j < termCount; j++) {
+                        terms.put(in.readUTF(), in.readInt());
+                    }
+                    putLocked(id, terms);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return takenAt;
+        } catch (IOException e) {
+            log.warn("failed to read competition search snapshot {}, rebuilding", snapshotPath, e);
+            return null;
+        }
+    }
+
+    private void addField(Map<String, Integer> terms, String text, int weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void putLocked(Long id, Map<String, Integer> terms) {
+        int length = 0;
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(id, term.getValue());
+            length += term.getValue();
+        }
+        documents.put(id, terms);
+        documentLengths.put(id, length);
+        totalLength += length;
+    }
+
+    private boolean removeLocked(Long id) {
+        Map<String, Integer> terms = documents.remove(id);
+        if (terms == null) {
+            return false;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(id);
+        return true;
+    }
+}
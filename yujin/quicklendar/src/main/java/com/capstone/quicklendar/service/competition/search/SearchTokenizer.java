@@ -0,0 +1,66 @@
+package com.capstone.quicklendar.service.competition.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색용 토크나이저: 영문/숫자는 단어 단위, 한글/한자/가나가 섞인 단어는 2-gram 으로 분리
+// (형태소 분석 없이도 "공모전" 검색어가 "디자인공모전" 에 매칭되도록)
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        boolean cjk = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(codePoint);
+                cjk |= isCjk(codePoint);
+            } else if (word.length() > 0) {
+                emit(word.toString(), cjk, tokens);
+                word.setLength(0);
+                cjk = false;
+            }
+        }
+        if (word.length() > 0) {
+            emit(word.toString(), cjk, tokens);
+        }
+        return tokens;
+    }
+
+    private static void emit(String word, boolean cjk, List<String> tokens) {
+        int length = word.codePointCount(0, word.length());
+        if (!cjk || length <= 2) {
+            tokens.add(word);
+            return;
+        }
+
+        int start = 0;
+        for (int i = 0; i < length - 1; i++) {
+            int end = word.offsetByCodePoints(start, 2);
+            tokens.add(word.substring(start, end));
+            start = word.offsetByCodePoints(start, 1);
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,263 @@
+package com.capstone.quicklendar.service.competition.trending;
+
+import com.capstone.quicklendar.domain.competition.CompetitionChangedEvent;
+import com.capstone.quicklendar.domain.competition.CompetitionLikeChangedEvent;
+import com.capstone.quicklendar.repository.competition.CompetitionLikeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 최근 인기(trending) 순위
+// 공모전별로 최근 window-hours 시간의 좋아요/조회 수를 시간 단위 버킷에 세고 (잠금 없이 CAS), 오래된 버킷일수록 반감기로 가중치를 낮춰 점수 계산
+// 상위 K 개는 refresh-ms 마다 전체 카운터를 한 번 훑어 크기 K 최소 힙으로 다시 계산하고, 요청은 계산된 목록만 읽음
+@Component
+public class TrendingRanking {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingRanking.class);
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final CompetitionLikeRepository competitionLikeRepository;
+    private final int windowHours;
+    private final double halfLifeHours;
+    private final double likeWeight;
+    private final double viewWeight;
+    private final int maxSize;
+
+    // ConcurrentHashMap 이 공모전 id 별로 나눠 잠그므로, 카운터 생성/삭제 외에는 서로 다른 공모전끼리 경합하지 않음
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    private volatile Ranking ranking = new Ranking(List.of(), List.of(), 0);
+
+    public TrendingRanking(CompetitionLikeRepository competitionLikeRepository,
+                           @Value("${competition.trending.window-hours:168}") int windowHours,
+                           @Value("${competition.trending.half-life-hours:24}") double halfLifeHours,
+                           @Value("${competition.trending.like-weight:5}") double likeWeight,
+                           @Value("${competition.trending.view-weight:1}") double viewWeight,
+                           @Value("${competition.trending.max-size:100}") int maxSize) {
+        this.competitionLikeRepository = competitionLikeRepository;
+        this.windowHours = windowHours;
+        this.halfLifeHours = halfLifeHours;
+        this.likeWeight = likeWeight;
+        this.viewWeight = viewWeight;
+        this.maxSize = maxSize;
+    }
+
+    // 재시작 직후에도 순위가 비지 않도록 최근 window-hours 동안의 좋아요를 DB 에서 채움 (조회 수는 메모리에만 있음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long now = System.currentTimeMillis();
+        List<Object[]> likes = competitionLikeRepository.findCompetitionIdsAndCreatedAtSince(new Date(now - windowHours * HOUR_MILLIS));
+        for (Object[] like : likes) {
+            window((Long) like[0]).add(Window.LIKES, ((Date) like[1]).getTime() / HOUR_MILLIS, 1);
+        }
+        refresh();
+        log.info("trending ranking ready: {} recent likes, {} competitions ranked", likes.size(), ranking.ids.size());
+    }
+
+    // 좋아요 취소는 창 안에 남은 좋아요에서만 뺌 (창 밖의 오래된 좋아요를 취소해도 점수가 음수가 되지 않게)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(CompetitionLikeChangedEvent event) {
+        if (event.isLiked()) {
+            window(event.getCompetitionId()).add(Window.LIKES, currentHour(), 1);
+        } else {
+            Window window = windows.get(event.getCompetitionId());
+            if (window != null) {
+                window.removeLatest(Window.LIKES, currentHour(), windowHours);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetitionChanged(CompetitionChangedEvent event) {
+        if (event.getChangeType() == CompetitionChangedEvent.ChangeType.DELETED) {
+            windows.remove(event.getCompetitionId());
+        }
+    }
+
+    // 공모전 상세 조회 기록
+    public void recordView(Long competitionId) {
+        window(competitionId).add(Window.VIEWS, currentHour(), 1);
+    }
+
+    // 상위 size 개 공모전 id (점수 내림차순)
+    public List<Long> top(int size) {
+        List<Long> ids = ranking.ids;
+        return ids.subList(0, Math.min(Math.max(size, 0), ids.size()));
+    }
+
+    // 전체 카운터로 상위 max-size 개를 다시 계산하고, 창 밖으로 밀려나 비어 있는 카운터는 제거
+    @Scheduled(initialDelayString = "${competition.trending.refresh-ms:60000}", fixedDelayString = "${competition.trending.refresh-ms:60000}")
+    public void refresh() {
+        long started = System.nanoTime();
+        long hour = currentHour();
+        double[] decay = new double[windowHours];
+        for (int age = 0; age < windowHours; age++) {
+            decay[age] = Math.pow(0.5, age / halfLifeHours);
+        }
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(maxSize + 1);
+        windows.forEach((competitionId, window) -> {
+            double score = window.score(hour, windowHours, decay, likeWeight, viewWeight);
+            if (score <= 0) {
+                if (window.isIdle(hour, windowHours)) {
+                    windows.remove(competitionId, window);
+                }
+                return;
+            }
+            if (heap.size() < maxSize) {
+                heap.add(new Scored(competitionId, score));
+            } else if (score > heap.peek().score) {
+                heap.poll();
+                heap.add(new Scored(competitionId, score));
+            }
+        });
+
+        List<Scored> sorted = new ArrayList<>(heap);
+        Collections.sort(sorted, Collections.reverseOrder());
+        List<Long> ids = new ArrayList<>(sorted.size());
+        List<Double> scores = new ArrayList<>(sorted.size());
+        sorted.forEach(scored -> {
+            ids.add(scored.competitionId);
+            scores.add(scored.score);
+        });
+        ranking = new Ranking(List.copyOf(ids), List.copyOf(scores), System.nanoTime() - started);
+    }
+
+    public Map<String, Object> stats() {
+        Ranking current = ranking;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedCompetitions", windows.size());
+        stats.put("rankedCompetitions", current.ids.size());
+        stats.put("topScore", current.scores.isEmpty() ? 0.0 : current.scores.get(0));
+        stats.put("lastRefreshMillis", current.refreshNanos / 1_000_000.0);
+        return stats;
+    }
+
+    private Window window(Long competitionId) {
+        return windows.computeIfAbsent(competitionId, id -> new Window(windowHours));
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    // 공모전 하나의 시간 단위 순환 버킷 (좋아요/조회 각각)
+    // 버킷 하나 = long 하나: 상위 32비트는 시간 번호(epoch hour), 하위 32비트는 그 시간의 수
+    // 다른 시간의 값이 들어 있으면 그 버킷은 지난 것이므로 CAS 로 (현재 시간, 0) 부터 다시 셈
+    static final class Window {
+        static final int LIKES = 0;
+        static final int VIEWS = 1;
+
+        private final int buckets;
+        private final AtomicLongArray counts;
+
+        Window(int buckets) {
+            this.buckets = buckets;
+            this.counts = new AtomicLongArray(buckets * 2);
+        }
+
+        void add(int kind, long hour, int delta) {
+            int index = kind * buckets + (int) (hour % buckets);
+            while (true) {
+                long current = counts.get(index);
+                int count = (current >>> 32) == hour ? (int) current : 0;
+                long updated = (hour << 32) | ((count + delta) & 0xFFFFFFFFL);
+                if (counts.compareAndSet(index, current, updated)) {
+                    return;
+                }
+            }
+        }
+
+        // 창 안에서 가장 최근의 0 보다 큰 버킷에서 1 을 뺌, 뺄 수 있는 버킷이 없으면 false
+        // 어느 시간에 눌린 좋아요인지는 모르므로 최근 것부터 (점수에는 조금 보수적으로 반영됨)
+        boolean removeLatest(int kind, long hour, int windowHours) {
+            for (int age = 0; age < Math.min(windowHours, buckets); age++) {
+                long bucketHour = hour - age;
+                int index = kind * buckets + (int) (bucketHour % buckets);
+                while (true) {
+                    long current = counts.get(index);
+                    if ((current >>> 32) != bucketHour || (int) current <= 0) {
+                        break;
+                    }
+                    if (counts.compareAndSet(index, current, current - 1)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        double score(long hour, int windowHours, double[] decay, double likeWeight, double viewWeight) {
+            double score = 0;
+            for (int i = 0; i < buckets; i++) {
+                score += likeWeight * weighted(counts.get(i), hour, windowHours, decay)
+                        + viewWeight * weighted(counts.get(buckets + i), hour, windowHours, decay);
+            }
+            return score;
+        }
+
+        // 창 안에 기록이 하나도 없으면 true
+        boolean isIdle(long hour, int windowHours) {
+            for (int i = 0; i < counts.length(); i++) {
+                long value = counts.get(i);
+                if ((int) value != 0 && hour - (value >>> 32) < windowHours) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static double weighted(long value, long hour, int windowHours, double[] decay) {
+            long age = hour - (value >>> 32);
+            if (age < 0 || age >= windowHours) {
+                return 0;
+            }
+            return (int) value * decay[(int) age];
+        }
+    }
+
+    private static final class Scored implements Comparable<Scored> {
+        private final Long competitionId;
+        private final double score;
+
+        private Scored(Long competitionId, double score) {
+            this.competitionId = competitionId;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Scored other) {
+            int compare = Double.compare(score, other.score);
+            return compare != 0 ? compare : Long.compare(other.competitionId, competitionId);
+        }
+    }
+
+    private static final class Ranking {
+        private final List<Long> ids;
+        private final List<Double> scores;
+        private final long refreshNanos;
+
+        private Ranking(List<Long> ids, List<Double> scores, long refreshNanos) {
+            this.ids = ids;
+            this.scores = scores;
+            this.refreshNanos = refreshNanos;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.capstone.quicklendar.service.image;
+
+import com.capstone.quicklendar.repository.competition.CompetitionRepository;
+import com.capstone.quicklendar.util.ImageHandler;
+import com.capstone.quicklendar.util.image.ImagePipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 어떤 공모전도 참조하지 않는 내용 주소 이미지(원본 + 변형)를 삭제
+// 참조 수는 competitions.image 로 계산하고, 업로드 직후 아직 등록 전인 이미지를 지우지 않도록
+// 마지막 저장/재사용 후 유예 시간(image.gc.grace-period)이 지난 이미지만 삭제
+@Component
+public class ImageGarbageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageGarbageCollector.class);
+
+    private final CompetitionRepository competitionRepository;
+    private final ImageHandler imageHandler;
+    private final ImagePipeline imagePipeline;
+    private final Duration gracePeriod;
+
+    public ImageGarbageCollector(CompetitionRepository competitionRepository, ImageHandler imageHandler,
+                                 ImagePipeline imagePipeline,
+                                 @Value("${image.gc.grace-period:PT1H}") Duration gracePeriod) {
+        this.competitionRepository = competitionRepository;
+        this.imageHandler = imageHandler;
+        this.imagePipeline = imagePipeline;
+        this.gracePeriod = gracePeriod;
+    }
+
+    // 공모전 삭제/이미지 교체로 참조 하나가 없어졌을 때 호출 (트랜잭션 중이면 커밋 후 확인)
+    public void release(String image) {
+        if (!imageHandler.isContentAddressed(image)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    collect(image);
+                }
+            });
+        } else {
+            collect(image);
+        }
+    }
+
+    // 유예 시간 안이라 바로 지우지 못한 이미지와 업로드 후 등록되지 않은 이미지 정리
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public int sweep() {
+        try {
+            List<String> candidates = imageHandler.findImagesNotTouchedSince(Instant.now().minus(gracePeriod));
+            Set<String> referenced = new HashSet<>(competitionRepository.findDistinctImages());
+            int deleted = 0;
+            for (String image : candidates) {
+                if (!referenced.contains(image) && delete(image)) {
+                    deleted++;
+                }
+            }
+            log.info("image sweep deleted {} of {} candidates", deleted, candidates.size());
+            return deleted;
+        } catch (IOException e) {
+            log.error("image sweep failed", e);
+            return 0;
+        }
+    }
+
+    private void collect(String image) {
+        try {
+            if (competitionRepository.countByImage(image) > 0) {
+                return;
+            }
+            Instant touched = Files.getLastModifiedTime(imageHandler.resolve(image)).toInstant();
+            if (touched.isBefore(Instant.now().minus(gracePeriod))) {
+                delete(image);
+            }
+        } catch (IOException e) {
+            // 이미 없는 파일이거나 읽을 수 없는 경우 -> 정기 정리에 맡김
+            log.debug("image release skipped: {}", image, e);
+        }
+    }
+
+    private boolean delete(String image) {
+        try {
+            imagePipeline.deleteVariants(image);
+            return imageHandler.delete(image);
+        } catch (IOException e) {
+            log.warn("failed to delete image {}", image, e);
+            return false;
+        }
+    }
+}
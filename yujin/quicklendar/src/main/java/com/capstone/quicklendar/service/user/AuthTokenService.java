@@ -0,0 +1,75 @@
+package com.capstone.quicklendar.service.user;
+
+import com.capstone.quicklendar.domain.user.User;
+import com.capstone.quicklendar.repository.user.UserRepository;
+import com.capstone.quicklendar.util.jwt.JwtTokenProvider;
+import com.capstone.quicklendar.util.jwt.TokenPair;
+import com.capstone.quicklendar.util.jwt.VerifiedToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+// access/refresh token 발급, refresh token 교체(rotation), 로그아웃
+@Service
+public class AuthTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenService.class);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    public AuthTokenService(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+    }
+
+    // 로그인 시 새 묶음으로 발급
+    public TokenPair issue(User user, String roles) {
+        return issue(user, roles, jwtTokenProvider.newFamily());
+    }
+
+    // refresh token 으로 새 access/refresh token 발급, 쓰인 refresh token 은 폐기
+    // 이미 쓰인 refresh token 이 다시 오면 탈취된 것으로 보고 묶음 전체를 폐기
+    public TokenPair refresh(String refreshToken) {
+        VerifiedToken verified = refreshToken != null ? jwtTokenProvider.verify(refreshToken) : null;
+        if (verified == null || !verified.isRefresh() || verified.getFamily() == null || verified.getUserId() == null) {
+            throw new IllegalArgumentException("유효하지 않은 refresh token 입니다.");
+        }
+        if (jwtTokenProvider.isRevoked(verified) || !jwtTokenProvider.revoke(verified)) {
+            log.warn("refresh token reuse detected, revoking session of user {}", verified.getUserId());
+            jwtTokenProvider.revokeFamily(verified.getFamily());
+            throw new IllegalArgumentException("이미 사용되었거나 폐기된 refresh token 입니다.");
+        }
+
+        User user = userRepository.findById(verified.getUserId()).orElse(null);
+        if (user == null || !user.isEnabled() || verified.getTokenVersion() == null
+                || verified.getTokenVersion() < user.getTokenVersion()) {
+            jwtTokenProvider.revokeFamily(verified.getFamily());
+            throw new IllegalArgumentException("유효하지 않은 refresh token 입니다.");
+        }
+        return issue(user, verified.getRoles(), verified.getFamily());
+    }
+
+    // access token 과 그 묶음(같은 로그인에서 나온 refresh token 포함)을 폐기
+    // 묶음 정보가 없는 이전 형식 토큰은 그 토큰만 폐기
+    public void logout(String accessToken, String refreshToken) {
+        revokeSession(accessToken);
+        revokeSession(refreshToken);
+    }
+
+    private void revokeSession(String token) {
+        VerifiedToken verified = token != null ? jwtTokenProvider.verify(token) : null;
+        if (verified == null) {
+            return;
+        }
+        jwtTokenProvider.revoke(verified);
+        if (verified.getFamily() != null) {
+            jwtTokenProvider.revokeFamily(verified.getFamily());
+        }
+    }
+
+    private TokenPair issue(User user, String roles, String family) {
+        return new TokenPair(jwtTokenProvider.createAccessToken(user, roles, family),
+                jwtTokenProvider.createRefreshToken(user, roles, family));
+    }
+}
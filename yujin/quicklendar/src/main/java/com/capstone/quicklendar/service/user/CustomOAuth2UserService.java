@@ -28,11 +28,14 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     private final UserRepository userRepository;
     private final OAuthUserRepository oauthUserRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
     private final RestTemplate restTemplate = new RestTemplate();
 
-    public CustomOAuth2UserService(UserRepository userRepository, OAuthUserRepository oauthUserRepository) {
+    public CustomOAuth2UserService(UserRepository userRepository, OAuthUserRepository oauthUserRepository,
+                                   TokenVersionRegistry tokenVersionRegistry) {
         this.userRepository = userRepository;
         this.oauthUserRepository = oauthUserRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
@@ -57,38 +60,8 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
         final String provider = userRequest.getClientRegistration().getRegistrationId();
         final Map<String, Object> attributes = oAuth2User.getAttributes();
-        final String providerId;
-        final String email;
-        final String name;
-        final String phone;
-
-        if ("naver".equals(provider)) {
-            Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-            providerId = (response != null) ? (String) response.get("id") : null;
-            email = (response != null) ? (String) response.get("email") : null;
-            name = (response != null) ? (String) response.get("name") : null;
-            phone = (response != null) ? (String) response.get("mobile") : null;
-        } else if ("google".equals(provider)) {
-            providerId = (String) attributes.get("sub");
-            email = (String) attributes.get("email");
-            name = (String) attributes.get("name");
-            phone = null;
-        } else {
-            throw new OAuth2AuthenticationException("지원하지 않는 OAuth 제공자입니다.");
-        }
-
-        User user = userRepository.findByEmail(email)
-                .orElseGet(() -> {
-                    User newUser = new User();
-                    newUser.setEmail(email);
-                    newUser.setName(name);
-                    newUser.setPhone(phone);
-                    newUser.setUserType(UserType.OAUTH);
-                    newUser.setProvider(provider);
-                    newUser.setProvider_id(providerId);
-                    newUser.setEnabled(true);
-                    return userRepository.save(newUser);
-                });
+        final User user = findOrCreateUser(provider, attributes);
+        final String providerId = providerId(provider, attributes);
 
         String accessToken = userRequest.getAccessToken().getTokenValue();
         Instant expiresAt = userRequest.getAccessToken().getExpiresAt();
@@ -108,6 +81,50 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         return new CustomOAuth2User(user, attributes);
     }
 
+    // 제공자 프로필(네이버: response 아래, 구글: 최상위)의 이메일로 회원을 찾고, 없으면 OAUTH 회원으로 가입
+    public User findOrCreateUser(String provider, Map<String, Object> profile) {
+        Map<String, Object> attributes = profileAttributes(provider, profile);
+        String email = (String) attributes.get("email");
+        if (email == null || email.isBlank()) {
+            throw new OAuth2AuthenticationException("OAuth 프로필에 이메일이 없습니다.");
+        }
+        return userRepository.findByEmail(email)
+                .orElseGet(() -> {
+                    User newUser = new User();
+                    newUser.setEmail(email);
+                    newUser.setName((String) attributes.get("name"));
+                    newUser.setPhone((String) attributes.get("mobile"));
+                    newUser.setUserType(UserType.OAUTH);
+                    newUser.setProvider(provider);
+                    newUser.setProvider_id(providerId(provider, profile));
+                    newUser.setEnabled(true);
+                    User saved = userRepository.save(newUser);
+                    tokenVersionRegistry.update(saved.getId(), saved.isEnabled(), saved.getTokenVersion());
+                    return saved;
+                });
+    }
+
+    private static String providerId(String provider, Map<String, Object> profile) {
+        Map<String, Object> attributes = profileAttributes(provider, profile);
+        // 구글: OIDC 는 sub, userinfo v1 은 id
+        Object id = attributes.get("naver".equals(provider) ? "id" : "sub");
+        if (id == null) {
+            id = attributes.get("id");
+        }
+        return id != null ? id.toString() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> profileAttributes(String provider, Map<String, Object> profile) {
+        if ("naver".equals(provider)) {
+            Map<String, Object> response = profile != null ? (Map<String, Object>) profile.get("response") : null;
+            return response != null ? response : Map.of();
+        } else if ("google".equals(provider)) {
+            return profile != null ? profile : Map.of();
+        }
+        throw new OAuth2AuthenticationException("지원하지 않는 OAuth 제공자입니다.");
+    }
+
     public String getAccessToken(String providerType, String authorizationCode, String state) {
         String tokenUrl;
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -3,22 +3,39 @@ package com.capstone.quicklendar.service.user;
 import com.capstone.quicklendar.domain.user.CustomUserDetails;
 import com.capstone.quicklendar.domain.user.User;
 import com.capstone.quicklendar.repository.user.UserRepository;
+import com.capstone.quicklendar.util.cache.TinyLfuCache;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Qualifier("customUserDetailsService")
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    // 이메일 -> 인증 필터용 사용자 정보 (짧게 유지, 프로필 수정/탈퇴 시 제거)
+    private final TinyLfuCache<String, CachedPrincipal> principals;
+    private final long principalTtlNanos;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.principal-cache.max-entries:10000}") int maxEntries,
+                                    @Value("${security.principal-cache.ttl:PT30S}") Duration ttl) {
         this.userRepository = userRepository;
+        this.principals = new TinyLfuCache<>("principals", maxEntries, maxEntries, principal -> 1);
+        this.principalTtlNanos = ttl.toNanos();
     }
 
+    // 로그인 등 비밀번호 확인에 쓰이므로 항상 DB 에서 읽음
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
@@ -26,4 +43,64 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(user);
     }
+
+    // 로그인 성공 시 저장된 해시의 cost 가 현재 설정과 다르면 DaoAuthenticationProvider 가 새 해시로 호출
+    @Override
+    public UserDetails updatePassword(UserDetails details, String newPassword) {
+        User user = userRepository.findByEmail(details.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + details.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        evictUser(user.getId());
+        return new CustomUserDetails(user);
+    }
+
+    // 요청마다 토큰의 사용자를 찾는 JWT 필터용 (TTL 동안 DB 조회 생략)
+    public UserDetails loadUserByUsernameCached(String email) throws UsernameNotFoundException {
+        CachedPrincipal cached = principals.getIfPresent(email);
+        if (cached != null) {
+            if (System.nanoTime() - cached.loadedAtNanos < principalTtlNanos) {
+                return cached.details;
+            }
+            principals.invalidate(email);
+        }
+
+        // 없는 사용자는 저장하지 않음 (예외가 그대로 전달됨)
+        UserDetails details = loadUserByUsername(email);
+        principals.put(email, new CachedPrincipal(details, System.nanoTime()));
+        return details;
+    }
+
+    // 사용자 정보가 바뀌거나 삭제되면 호출
+    // 커밋 전에 다른 요청이 옛 정보를 다시 읽어 갈 수 있으므로 커밋 후에 한 번 더 제거
+    public void evictUser(Long userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> principalCacheStats() {
+        return principals.stats();
+    }
+
+    private void evictNow(Long userId) {
+        principals.invalidateIf((email, cached) -> cached.details instanceof CustomUserDetails customUserDetails
+                && Objects.equals(customUserDetails.getId(), userId));
+    }
+
+    private static final class CachedPrincipal {
+        private final UserDetails details;
+        private final long loadedAtNanos;
+
+        private CachedPrincipal(UserDetails details, long loadedAtNanos) {
+            this.details = details;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.capstone.quicklendar.service.user;
+
+import com.capstone.quicklendar.repository.user.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// claims-only 인증 모드에서 DB 대신 사용하는 사용자 상태 색인
+// - enabled: 활성 사용자 id 비트맵 (maxKnownId 이하인데 비트가 없으면 삭제/비활성 사용자)
+// - versions: 토큰 버전이 0 이 아닌 사용자만 저장
+// 이 인스턴스에서의 변경은 커밋 후 바로 반영하고, 다른 인스턴스에서의 변경은 주기적인 재적재로 반영
+@Component
+public class TokenVersionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    public enum Status {
+        VALID,
+        // 삭제/비활성 사용자이거나 토큰 버전이 지난 토큰
+        REVOKED,
+        // 색인만으로 판단할 수 없음 (재적재 이후 다른 인스턴스에서 가입/버전 증가) -> DB 로 확인
+        UNKNOWN
+    }
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet enabled = new BitSet();
+    private Map<Long, Integer> versions = new HashMap<>();
+    private long maxKnownId;
+    // 로컬 변경 횟수, 재적재 중에 변경이 있었으면 재적재 결과를 버림 (다음 주기에 다시 적재)
+    private long modifications;
+
+    private volatile boolean ready;
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-version.refresh-interval-ms:60000}")
+    public void reload() {
+        long started = System.currentTimeMillis();
+        long expectedModifications;
+        lock.readLock().lock();
+        try {
+            expectedModifications = modifications;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        BitSet loadedEnabled = new BitSet();
+        long loadedMaxId = 0;
+        for (Long id : userRepository.findEnabledIds()) {
+            if (id <= Integer.MAX_VALUE) {
+                loadedEnabled.set(id.intValue());
+            }
+            loadedMaxId = Math.max(loadedMaxId, id);
+        }
+        Map<Long, Integer> loadedVersions = new HashMap<>();
+        for (Object[] row : userRepository.findTokenVersions()) {
+            loadedVersions.put((Long) row[0], (Integer) row[1]);
+            loadedMaxId = Math.max(loadedMaxId, (Long) row[0]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (modifications != expectedModifications) {
+                log.debug("token version registry changed during reload, keeping current state");
+                return;
+            }
+            enabled = loadedEnabled;
+            versions = loadedVersions;
+            maxKnownId = loadedMaxId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!ready) {
+            ready = true;
+            log.info("token version registry ready: {} users in {} ms", loadedEnabled.cardinality(), System.currentTimeMillis() - started);
+        }
+    }
+
+    public Status check(long userId, int tokenVersion) {
+        if (!ready) {
+            return Status.UNKNOWN;
+        }
+        lock.readLock().lock();
+        try {
+            if (userId > maxKnownId || userId > Integer.MAX_VALUE) {
+                return Status.UNKNOWN;
+            }
+            if (!enabled.get((int) userId)) {
+                return Status.REVOKED;
+            }
+            int current = versions.getOrDefault(userId, 0);
+            if (tokenVersion < current) {
+                return Status.REVOKED;
+            }
+            return tokenVersion == current ? Status.VALID : Status.UNKNOWN;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가입/프로필 수정 (트랜잭션 중이면 커밋 후 반영)
+    public void update(Long userId, boolean userEnabled, int tokenVersion) {
+        afterCommit(() -> apply(userId, userEnabled, tokenVersion));
+    }
+
+    // 탈퇴 (트랜잭션 중이면 커밋 후 반영)
+    public void remove(Long userId) {
+        afterCommit(() -> apply(userId, false, 0));
+    }
+
+    private void apply(Long userId, boolean userEnabled, int tokenVersion) {
+        lock.writeLock().lock();
+        try {
+            modifications++;
+            if (userId <= Integer.MAX_VALUE) {
+                enabled.set(userId.intValue(), userEnabled);
+            }
+            if (tokenVersion > 0) {
+                versions.put(userId, tokenVersion);
+            } else {
+                versions.remove(userId);
+            }
+            maxKnownId = Math.max(maxKnownId, userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -14,10 +14,15 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       CustomUserDetailsService customUserDetailsService, TokenVersionRegistry tokenVersionRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.customUserDetailsService = customUserDetailsService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     public Long join(User user) {
@@ -28,6 +33,7 @@ public class UserService {
         user.setUserType(UserType.LOCAL);
         user.setEnabled(true); // 기본값 활성화
         userRepository.save(user);
+        tokenVersionRegistry.update(user.getId(), user.isEnabled(), user.getTokenVersion());
         return user.getId();
     }
 
@@ -67,6 +73,8 @@ public class UserService {
 
         if (user.isPresent()) {
             userRepository.deleteById(userId);  // 회원 정보 삭제
+            customUserDetailsService.evictUser(userId);  // 인증 필터의 사용자 캐시 제거
+            tokenVersionRegistry.remove(userId);  // 이미 발급된 토큰 거부
         } else {
             throw new IllegalArgumentException("해당 회원이 존재하지 않습니다.");
         }
@@ -74,6 +82,47 @@ public class UserService {
 
     @Transactional
     public void updateProfile(User user) {
+        boolean wasEnabled = userRepository.findById(user.getId()).map(User::isEnabled).orElse(false);
+        if (wasEnabled && !user.isEnabled()) {
+            // 비활성화되면 다시 활성화되더라도 그 전에 발급된 토큰은 쓰지 못하게 함
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
         userRepository.save(user);  // 사용자 정보 업데이트
+        customUserDetailsService.evictUser(user.getId());
+        tokenVersionRegistry.update(user.getId(), user.isEnabled(), user.getTokenVersion());
+    }
+
+    // 비밀번호 변경 후 이전에 발급된 토큰(다른 기기 포함)을 모두 거부
+    @Transactional
+    public User changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원이 존재하지 않습니다."));
+        if (user.getPassword() == null || currentPassword == null
+                || !passwordEncoder.matches(currentPassword, user.getPassword())) {
+            throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
+        }
+        if (newPassword == null) {
+            throw new IllegalArgumentException("새 비밀번호를 입력해 주세요.");
+        }
+        validatePassword(newPassword);
+        user.setPassword(passwordEncoder.encode(newPassword));
+        revokeTokens(user);
+        return user;
+    }
+
+    // 모든 기기에서 로그아웃 (이전에 발급된 access/refresh token 모두 거부)
+    @Transactional
+    public void logoutEverywhere(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원이 존재하지 않습니다."));
+        revokeTokens(user);
+    }
+
+    // 토큰 버전을 올리면 JWT 의 버전 claim 이 더 작은 토큰은 인증 필터와 refresh 에서 거부됨
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.save(user);
+        customUserDetailsService.evictUser(user.getId());
+        tokenVersionRegistry.update(user.getId(), user.isEnabled(), user.getTokenVersion());
     }
 }
@@ -1,29 +1,175 @@
 package com.capstone.quicklendar.util;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+// 내용 주소 기반 이미지 저장소
+// 업로드를 스트림으로 임시 파일에 쓰면서 SHA-256 을 계산하고, {hash 앞 2자}/{다음 2자}/{hash}.{확장자} 로 저장
+// 같은 내용은 한 번만 저장되고, 이름이 같은 다른 이미지가 서로 덮어쓰지 않음
+// 확장자는 파일 앞부분(매직 넘버)으로 판별 -> 같은 내용이 .jpg/.jpeg 등 다른 이름으로 올라와도 한 파일
+// (예전 방식으로 저장된 이미지 이름은 upload dir 바로 아래 파일로 처리)
 @Component
 public class ImageHandler {
-    public String saveImage(MultipartFile imageFile, String uploadDir) throws IOException {
-        if (!imageFile.isEmpty()) {
-            File directory = new File(uploadDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
+
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]{1,8}");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,8}");
+    private static final String DEFAULT_EXTENSION = "img";
+    private static final String TEMP_DIR = ".tmp";
+    private static final int SIGNATURE_LENGTH = 12;
+
+    private final Path uploadDir;
+
+    public ImageHandler(@Value("${image.upload.dir}") String uploadDir) {
+        this.uploadDir = Paths.get(uploadDir);
+    }
+
+    // 저장 후 이미지 이름({hash}.{확장자}) 반환, 빈 파일이면 null
+    public String saveImage(MultipartFile imageFile) throws IOException {
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+
+        Path tempDir = Files.createDirectories(uploadDir.resolve(TEMP_DIR));
+        Path temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(imageFile.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
             }
 
-            String fileName = System.currentTimeMillis() + "-" + imageFile.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
+            String name = HexFormat.of().formatHex(digest.digest()) + "." + extensionOf(temp, imageFile.getOriginalFilename());
+            Path target = resolve(name);
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                // 같은 내용이 이미 있으면 그대로 사용하고, 다시 참조되었으므로 미사용 이미지 정리 유예 시간을 새로 시작
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            } else {
+                // 동시에 같은 내용이 올라와 덮어쓰더라도 내용이 같으므로 무방
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return name;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
 
-            imageFile.transferTo(filePath.toFile());
+    // 이미지 이름 -> 원본 파일 경로
+    public Path resolve(String name) {
+        String fileName = Paths.get(name).getFileName().toString();
+        if (isContentAddressed(fileName)) {
+            return uploadDir.resolve(fileName.substring(0, 2)).resolve(fileName.substring(2, 4)).resolve(fileName);
+        }
+        return uploadDir.resolve(fileName);
+    }
+
+    // 내용 주소 이름이면 파일 내용이 절대 바뀌지 않음 (immutable 캐시, hash 를 강한 ETag 로 사용 가능)
+    public boolean isContentAddressed(String name) {
+        return name != null && CONTENT_ADDRESSED_NAME.matcher(name).matches();
+    }
+
+    // 내용 주소 이름의 hash 부분
+    public String hashOf(String name) {
+        return name.substring(0, name.indexOf('.'));
+    }
 
-            return fileName;
+    public boolean delete(String name) throws IOException {
+        return Files.deleteIfExists(resolve(name));
+    }
+
+    // cutoff 이전에 마지막으로 저장/재사용된 내용 주소 이미지 이름 (미사용 이미지 정리용)
+    public List<String> findImagesNotTouchedSince(Instant cutoff) throws IOException {
+        if (!Files.isDirectory(uploadDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.find(uploadDir, 3, (path, attributes) -> attributes.isRegularFile()
+                && isContentAddressed(path.getFileName().toString())
+                && attributes.lastModifiedTime().toInstant().isBefore(cutoff))) {
+            return files.map(path -> path.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+
+    // 알려진 형식이면 내용에서 판별한 확장자, 아니면 업로드 파일명의 확장자(표기 통일)
+    private static String extensionOf(Path file, String originalFilename) throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(SIGNATURE_LENGTH);
+        }
+        String detected = detectFormat(head);
+        return detected != null ? detected : extensionOf(originalFilename);
+    }
+
+    private static String detectFormat(byte[] head) {
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "png";
+        }
+        if (startsWith(head, 0, 'G', 'I', 'F', '8')) {
+            return "gif";
+        }
+        if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+            return "webp";
+        }
+        if (startsWith(head, 0, 'B', 'M')) {
+            return "bmp";
         }
         return null;
     }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... signature) {
+        if (bytes.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((bytes[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename != null) {
+            int dot = originalFilename.lastIndexOf('.');
+            if (dot >= 0) {
+                String extension = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+                if (EXTENSION.matcher(extension).matches()) {
+                    return switch (extension) {
+                        case "jpeg", "jpe", "jfif" -> "jpg";
+                        case "tif" -> "tiff";
+                        default -> extension;
+                    };
+                }
+            }
+        }
+        return DEFAULT_EXTENSION;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,416 @@
+package com.capstone.quicklendar.util.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+// 무게 제한이 있는 W-TinyLFU 캐시
+// - window(전체의 1%) LRU 로 새 항목을 받고, 넘치면 main 영역(probation/protected SLRU)으로 이동
+// - main 이 넘치면 새로 들어온 후보와 가장 오래된 probation 항목의 빈도(FrequencySketch)를 비교해 낮은 쪽을 제거
+// 모든 연산은 캐시 단위 락으로 직렬화 (값 로딩은 락 밖에서 수행)
+public class TinyLfuCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    // 키별 무효화 시각을 기억하는 최대 개수 (넘치면 가장 오래된 것부터 잊고 floor 를 올림)
+    private static final int MAX_RECENT_INVALIDATIONS = 1024;
+
+    private final String name;
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final ToIntFunction<V> weigher;
+    private final FrequencySketch sketch;
+
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    private final NodeList<K, V> window = new NodeList<>();
+    private final NodeList<K, V> probation = new NodeList<>();
+    private final NodeList<K, V> protectedList = new NodeList<>();
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    // 무효화가 일어날 때마다 증가, 로딩 중에 그 키가 무효화됐으면 로딩한 값은 저장하지 않음
+    // - recentInvalidations: 키 -> 마지막 무효화 시각 (오래된 순)
+    // - floor: 이 시각 이전에 시작한 로딩은 키와 상관없이 버림 (전체 무효화, 잊어버린 키별 기록)
+    private long generation;
+    private long floor;
+    private final LinkedHashMap<K, Long> recentInvalidations = new LinkedHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public TinyLfuCache(String name, long maximumWeight, int expectedEntries, ToIntFunction<V> weigher) {
+        this.name = name;
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, maximumWeight / 100);
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * 0.8);
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        sketch.increment(key);
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    // 없으면 loader 로 읽어 저장 (loader 가 null 을 반환하면 저장하지 않음)
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V value = getIfPresent(key);
+            if (value != null) {
+                return value;
+            }
+            loadGeneration = generation;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (this) {
+                if (isFresh(key, loadGeneration)) {
+                    putLocked(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // 여러 키를 한 번에 조회하고, 없는 키만 모아 loader 로 한 번에 읽음
+    public Map<K, V> getAll(List<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, V> result = new LinkedHashMap<>();
+        List<K> missing = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            for (K key : keys) {
+                V value = getIfPresent(key);
+                if (value != null) {
+                    result.put(key, value);
+                } else {
+                    missing.add(key);
+                }
+            }
+            loadGeneration = generation;
+        }
+
+        if (!missing.isEmpty()) {
+            Map<K, V> loaded = loader.apply(missing);
+            synchronized (this) {
+                for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                    if (isFresh(entry.getKey(), loadGeneration)) {
+                        putLocked(entry.getKey(), entry.getValue());
+                    }
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized void put(K key, V value) {
+        putLocked(key, value);
+    }
+
+    // 로딩 시작 전에 읽어 둔 세대 값. 그 사이 무효화되지 않은 키만 putAllIfUnchanged 가 저장함
+    public synchronized long currentGeneration() {
+        return generation;
+    }
+
+    public synchronized void putAllIfUnchanged(Map<K, V> entries, long expectedGeneration) {
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            if (isFresh(entry.getKey(), expectedGeneration)) {
+                putLocked(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // 통계와 접근 순서에 영향을 주지 않고 조회
+    public synchronized V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node != null ? node.value : null;
+    }
+
+    // 캐시에 있으면 값을 바꿔 넣음 (진행 중인 그 키의 로딩이 이전 값을 덮어쓰지 않도록 무효화로 기록)
+    public synchronized void computeIfPresent(K key, UnaryOperator<V> remapping) {
+        markInvalidated(key);
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return;
+        }
+        V value = remapping.apply(node.value);
+        int weight = Math.max(1, weigher.applyAsInt(value));
+        adjustWeight(node, weight - node.weight);
+        node.value = value;
+        node.weight = weight;
+        evict();
+    }
+
+    public synchronized void invalidate(K key) {
+        markInvalidated(key);
+        Node<K, V> node = data.remove(key);
+        if (node != null) {
+            unlink(node);
+            invalidations++;
+        }
+    }
+
+    // 로딩 중인 키는 값이 없어 조건을 확인할 수 없으므로 진행 중인 로딩을 모두 버림
+    public synchronized void invalidateIf(BiPredicate<K, V> predicate) {
+        markAllInvalidated();
+        List<Node<K, V>> matched = new ArrayList<>();
+        for (Node<K, V> node : data.values()) {
+            if (predicate.test(node.key, node.value)) {
+                matched.add(node);
+            }
+        }
+        for (Node<K, V> node : matched) {
+            data.remove(node.key);
+            unlink(node);
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        markAllInvalidated();
+        invalidations += data.size();
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedList.clear();
+        windowWeight = probationWeight = protectedWeight = 0;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long requests = hits + misses;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", data.size());
+        stats.put("weight", windowWeight + probationWeight + protectedWeight);
+        stats.put("maximumWeight", maximumWeight);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", requests == 0 ? 0.0 : (double) hits / requests);
+        stats.put("evictions", evictions);
+        stats.put("invalidations", invalidations);
+        return stats;
+    }
+
+    // loadGeneration 에 시작한 로딩 결과를 저장해도 되는지
+    private boolean isFresh(K key, long loadGeneration) {
+        if (loadGeneration < floor) {
+            return false;
+        }
+        Long invalidatedAt = recentInvalidations.get(key);
+        return invalidatedAt == null || invalidatedAt <= loadGeneration;
+    }
+
+    private void markInvalidated(K key) {
+        generation++;
+        recentInvalidations.remove(key);
+        recentInvalidations.put(key, generation);
+        if (recentInvalidations.size() > MAX_RECENT_INVALIDATIONS) {
+            Iterator<Long> oldest = recentInvalidations.values().iterator();
+            floor = Math.max(floor, oldest.next());
+            oldest.remove();
+        }
+    }
+
+    private void markAllInvalidated() {
+        generation++;
+        floor = generation;
+        recentInvalidations.clear();
+    }
+
+    private void putLocked(K key, V value) {
+        sketch.increment(key);
+        int weight = Math.max(1, weigher.applyAsInt(value));
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            adjustWeight(node, weight - node.weight);
+            node.value = value;
+            node.weight = weight;
+            onAccess(node);
+        } else {
+            node = new Node<>(key, value, weight);
+            data.put(key, node);
+            node.segment = WINDOW;
+            window.addLast(node);
+            windowWeight += weight;
+        }
+        evict();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                // probation 에서 다시 읽히면 protected 로 승격
+                probation.remove(node);
+                probationWeight -= node.weight;
+                node.segment = PROTECTED;
+                protectedList.addLast(node);
+                protectedWeight += node.weight;
+                demoteProtected();
+                break;
+            default:
+                protectedList.moveToLast(node);
+                break;
+        }
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaximum && protectedList.first != null) {
+            Node<K, V> demoted = protectedList.first;
+            protectedList.remove(demoted);
+            protectedWeight -= demoted.weight;
+            demoted.segment = PROBATION;
+            probation.addLast(demoted);
+            probationWeight += demoted.weight;
+        }
+    }
+
+    private void evict() {
+        // window 초과분은 probation 끝으로 이동 (main 입장 후보)
+        while (windowWeight > windowMaximum && window.first != null) {
+            Node<K, V> candidate = window.first;
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+            candidate.segment = PROBATION;
+            probation.addLast(candidate);
+            probationWeight += candidate.weight;
+        }
+
+        while (windowWeight + probationWeight + protectedWeight > maximumWeight) {
+            Node<K, V> victim = probation.first;
+            Node<K, V> candidate = probation.last;
+            if (victim == null) {
+                victim = protectedList.first != null ? protectedList.first : window.first;
+                evictNode(victim);
+            } else if (victim == candidate) {
+                evictNode(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictNode(victim);
+            } else {
+                evictNode(candidate);
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        data.remove(node.key);
+        unlink(node);
+        evictions++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.remove(node);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node);
+                probationWeight -= node.weight;
+                break;
+            default:
+                protectedList.remove(node);
+                protectedWeight -= node.weight;
+                break;
+        }
+    }
+
+    private void adjustWeight(Node<K, V> node, int delta) {
+        switch (node.segment) {
+            case WINDOW:
+                windowWeight += delta;
+                break;
+            case PROBATION:
+                probationWeight += delta;
+                break;
+            default:
+                protectedWeight += delta;
+                break;
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private int weight;
+        private int segment;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    // 접근 순서 이중 연결 리스트 (first = 가장 오래된 항목)
+    private static final class NodeList<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        private void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (last != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void clear() {
+            first = null;
+            last = null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.capstone.quicklendar.util.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 공모전 변경 피드의 변경 한 건
+// CREATED/UPDATED 는 변경 후 공모전, DELETED 는 id 만, LIKES 는 그 사이 좋아요 수 증감(likeDelta)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompetitionChangeDTO {
+    private final long version;
+    private final String type;
+    private final Long competitionId;
+    private final CompetitionDTO competition;
+    private final Long likeDelta;
+
+    public CompetitionChangeDTO(long version, String type, Long competitionId, CompetitionDTO competition, Long likeDelta) {
+        this.version = version;
+        this.type = type;
+        this.competitionId = competitionId;
+        this.competition = competition;
+        this.likeDelta = likeDelta;
+    }
+
+    // Getters
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+
+    public CompetitionDTO getCompetition() {
+        return competition;
+    }
+
+    public Long getLikeDelta() {
+        return likeDelta;
+    }
+}
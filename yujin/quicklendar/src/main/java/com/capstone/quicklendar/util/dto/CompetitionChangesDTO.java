@@ -0,0 +1,37 @@
+package com.capstone.quicklendar.util.dto;
+
+import java.util.List;
+
+// 버전 since 이후 변경 목록
+// reset 이 true 면 since 이후 변경 일부가 이미 버퍼에서 밀려났거나 서버가 재시작된 것 -> 전체 목록을 다시 받고 latestVersion 부터 이어서 조회
+public class CompetitionChangesDTO {
+    private final long latestVersion;
+    private final boolean reset;
+    private final boolean hasMore;
+    private final List<CompetitionChangeDTO> changes;
+
+    public CompetitionChangesDTO(long latestVersion, boolean reset, boolean hasMore, List<CompetitionChangeDTO> changes) {
+        this.latestVersion = latestVersion;
+        this.reset = reset;
+        this.hasMore = hasMore;
+        this.changes = changes;
+    }
+
+    // Getters
+
+    public long getLatestVersion() {
+        return latestVersion;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public List<CompetitionChangeDTO> getChanges() {
+        return changes;
+    }
+}
@@ -0,0 +1,87 @@
+package com.capstone.quicklendar.util.dto;
+
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서: 마지막으로 내려준 항목의 (정렬 키, id)
+public class CompetitionCursor {
+
+    private final Comparable<?> sortKey;
+    private final Long id;
+
+    public CompetitionCursor(Comparable<?> sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static CompetitionCursor of(Competition competition, CompetitionSort sort) {
+        return new CompetitionCursor(sortKeyOf(competition, sort), competition.getId());
+    }
+
+    private static Comparable<?> sortKeyOf(Competition competition, CompetitionSort sort) {
+        switch (sort) {
+            case LIKES:
+                return competition.getLikeCount();
+            case CREATED_AT:
+                return competition.getCreatedAt();
+            case START_DATE_ASC:
+            case START_DATE_DESC:
+                return competition.getStartDate();
+            case END_DATE_ASC:
+            case END_DATE_DESC:
+                return competition.getEndDate();
+            case REQUEST_START_DATE_ASC:
+            case REQUEST_START_DATE_DESC:
+                return competition.getRequestStartDate();
+            case REQUEST_END_DATE_ASC:
+            case REQUEST_END_DATE_DESC:
+                return competition.getRequestEndDate();
+            default:
+                return competition.getId();
+        }
+    }
+
+    // 커서 문자열은 "정렬키|id" 를 URL-safe Base64 로 인코딩한 값
+    public String encode() {
+        String raw = sortKey + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CompetitionCursor decode(String cursor, CompetitionSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String key = raw.substring(0, separator);
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new CompetitionCursor(parseSortKey(key, sort), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static Comparable<?> parseSortKey(String key, CompetitionSort sort) {
+        switch (sort) {
+            case LIKES:
+                return Integer.valueOf(key);
+            case CREATED_AT:
+                return LocalDateTime.parse(key);
+            case ID:
+                return Long.valueOf(key);
+            default:
+                return LocalDate.parse(key);
+        }
+    }
+
+    public Comparable<?> getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -3,6 +3,7 @@ package com.capstone.quicklendar.util.dto;
 import com.capstone.quicklendar.domain.competition.Category;
 import com.capstone.quicklendar.domain.competition.Competition;
 import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.util.image.ImageVariant;
 
 import java.time.LocalDate;
 
@@ -17,6 +18,9 @@ public class CompetitionDTO {
     private String requestPath;
     private String location;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String listImageUrl;
+    private String detailImageUrl;
     private String support;
     private String host;
     private Category category;
@@ -34,6 +38,9 @@ public class CompetitionDTO {
         this.requestPath = competition.getRequestPath();
         this.location = competition.getLocation();
         this.imageUrl = imageBaseUrl + competition.getImage();
+        this.thumbnailUrl = ImageVariant.THUMBNAIL.urlOf(imageBaseUrl, competition.getImage());
+        this.listImageUrl = ImageVariant.LIST.urlOf(imageBaseUrl, competition.getImage());
+        this.detailImageUrl = ImageVariant.DETAIL.urlOf(imageBaseUrl, competition.getImage());
         this.support = competition.getSupport();
         this.host = competition.getHost();
         this.category = competition.getCategory();
@@ -41,6 +48,27 @@ public class CompetitionDTO {
         this.likeCount = competition.getLikeCount();
     }
 
+    public CompetitionDTO(CompetitionDTO source) {
+        this.id = source.id;
+        this.name = source.name;
+        this.description = source.description;
+        this.startDate = source.startDate;
+        this.endDate = source.endDate;
+        this.requestStartDate = source.requestStartDate;
+        this.requestEndDate = source.requestEndDate;
+        this.requestPath = source.requestPath;
+        this.location = source.location;
+        this.imageUrl = source.imageUrl;
+        this.thumbnailUrl = source.thumbnailUrl;
+        this.listImageUrl = source.listImageUrl;
+        this.detailImageUrl = source.detailImageUrl;
+        this.support = source.support;
+        this.host = source.host;
+        this.category = source.category;
+        this.competitionType = source.competitionType;
+        this.likeCount = source.likeCount;
+    }
+
     // Getters and Setters
 
     public Long getId() {
@@ -123,6 +151,30 @@ public class CompetitionDTO {
         this.imageUrl = imageUrl;
     }
 
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getListImageUrl() {
+        return listImageUrl;
+    }
+
+    public void setListImageUrl(String listImageUrl) {
+        this.listImageUrl = listImageUrl;
+    }
+
+    public String getDetailImageUrl() {
+        return detailImageUrl;
+    }
+
+    public void setDetailImageUrl(String detailImageUrl) {
+        this.detailImageUrl = detailImageUrl;
+    }
+
     public String getSupport() {
         return support;
     }
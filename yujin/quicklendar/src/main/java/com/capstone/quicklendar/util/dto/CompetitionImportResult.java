@@ -0,0 +1,86 @@
+package com.capstone.quicklendar.util.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 공모전 대량 등록 결과 (행 번호는 1부터, CSV 는 헤더가 1행)
+public class CompetitionImportResult {
+    private int total;
+    private int inserted;
+    private int skipped;
+    private int failed;
+    private boolean errorsTruncated;
+    private final List<RowError> errors = new ArrayList<>();
+
+    private final int maxReportedErrors;
+
+    public CompetitionImportResult(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void addTotal() {
+        total++;
+    }
+
+    public void addInserted(int count) {
+        inserted += count;
+    }
+
+    public void addSkipped(int count) {
+        skipped += count;
+    }
+
+    // 실패 행 기록 (보고 개수를 넘으면 개수만 셈)
+    public void addError(long row, String message) {
+        failed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new RowError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // Getters
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public static class RowError {
+        private final long row;
+        private final String message;
+
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
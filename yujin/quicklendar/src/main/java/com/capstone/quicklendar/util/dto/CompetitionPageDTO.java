@@ -0,0 +1,29 @@
+package com.capstone.quicklendar.util.dto;
+
+import java.util.List;
+
+public class CompetitionPageDTO {
+    private List<CompetitionDTO> competitions;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CompetitionPageDTO(List<CompetitionDTO> competitions, String nextCursor, boolean hasNext) {
+        this.competitions = competitions;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // Getters
+
+    public List<CompetitionDTO> getCompetitions() {
+        return competitions;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,167 @@
+package com.capstone.quicklendar.util.dto;
+
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 공모전 목록 조회 조건 (모든 항목은 선택, 지정된 조건만 AND 로 결합. 쿼리 파라미터로 바인딩됨)
+public class CompetitionSearchCondition {
+    private Category category;
+    private CompetitionType competitionType;
+    private String host;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDateTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDateTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate requestStartDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate requestStartDateTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate requestEndDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate requestEndDateTo;
+
+    public CompetitionSearchCondition() {
+    }
+
+    public CompetitionSearchCondition(Category category, CompetitionType competitionType, String host) {
+        this.category = category;
+        this.competitionType = competitionType;
+        this.host = host;
+    }
+
+    // CompetitionSpecifications 와 같은 조건을 메모리에서 평가 (캐시 무효화 대상 판단용)
+    public boolean matches(Competition competition) {
+        return matches(competition.getCategory(), competition.getCompetitionType(), competition.getHost(),
+                competition.getStartDate(), competition.getEndDate(),
+                competition.getRequestStartDate(), competition.getRequestEndDate());
+    }
+
+    public boolean matches(CompetitionDTO competition) {
+        return matches(competition.getCategory(), competition.getCompetitionType(), competition.getHost(),
+                competition.getStartDate(), competition.getEndDate(),
+                competition.getRequestStartDate(), competition.getRequestEndDate());
+    }
+
+    private boolean matches(Category category, CompetitionType competitionType, String host,
+                            LocalDate startDate, LocalDate endDate, LocalDate requestStartDate, LocalDate requestEndDate) {
+        if (this.category != null && this.category != category) {
+            return false;
+        }
+        if (this.competitionType != null && this.competitionType != competitionType) {
+            return false;
+        }
+        if (this.host != null && !this.host.isEmpty() && !this.host.equals(host)) {
+            return false;
+        }
+        return inRange(startDate, startDateFrom, startDateTo)
+                && inRange(endDate, endDateFrom, endDateTo)
+                && inRange(requestStartDate, requestStartDateFrom, requestStartDateTo)
+                && inRange(requestEndDate, requestEndDateFrom, requestEndDateTo);
+    }
+
+    private static boolean inRange(LocalDate value, LocalDate from, LocalDate to) {
+        if (from != null && (value == null || value.isBefore(from))) {
+            return false;
+        }
+        return to == null || (value != null && !value.isAfter(to));
+    }
+
+    // Getters and Setters
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public CompetitionType getCompetitionType() {
+        return competitionType;
+    }
+
+    public void setCompetitionType(CompetitionType competitionType) {
+        this.competitionType = competitionType;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public LocalDate getStartDateFrom() {
+        return startDateFrom;
+    }
+
+    public void setStartDateFrom(LocalDate startDateFrom) {
+        this.startDateFrom = startDateFrom;
+    }
+
+    public LocalDate getStartDateTo() {
+        return startDateTo;
+    }
+
+    public void setStartDateTo(LocalDate startDateTo) {
+        this.startDateTo = startDateTo;
+    }
+
+    public LocalDate getEndDateFrom() {
+        return endDateFrom;
+    }
+
+    public void setEndDateFrom(LocalDate endDateFrom) {
+        this.endDateFrom = endDateFrom;
+    }
+
+    public LocalDate getEndDateTo() {
+        return endDateTo;
+    }
+
+    public void setEndDateTo(LocalDate endDateTo) {
+        this.endDateTo = endDateTo;
+    }
+
+    public LocalDate getRequestStartDateFrom() {
+        return requestStartDateFrom;
+    }
+
+    public void setRequestStartDateFrom(LocalDate requestStartDateFrom) {
+        this.requestStartDateFrom = requestStartDateFrom;
+    }
+
+    public LocalDate getRequestStartDateTo() {
+        return requestStartDateTo;
+    }
+
+    public void setRequestStartDateTo(LocalDate requestStartDateTo) {
+        this.requestStartDateTo = requestStartDateTo;
+    }
+
+    public LocalDate getRequestEndDateFrom() {
+        return requestEndDateFrom;
+    }
+
+    public void setRequestEndDateFrom(LocalDate requestEndDateFrom) {
+        this.requestEndDateFrom = requestEndDateFrom;
+    }
+
+    public LocalDate getRequestEndDateTo() {
+        return requestEndDateTo;
+    }
+
+    public void setRequestEndDateTo(LocalDate requestEndDateTo) {
+        this.requestEndDateTo = requestEndDateTo;
+    }
+}
@@ -0,0 +1,22 @@
+package com.capstone.quicklendar.util.dto;
+
+// 주최 자동완성 결과 (주최 이름 + 해당 주최의 공모전 수)
+public class HostSuggestionDTO {
+    private String host;
+    private int competitionCount;
+
+    public HostSuggestionDTO(String host, int competitionCount) {
+        this.host = host;
+        this.competitionCount = competitionCount;
+    }
+
+    // Getters
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getCompetitionCount() {
+        return competitionCount;
+    }
+}
@@ -2,6 +2,7 @@ package com.capstone.quicklendar.util.dto;
 
 public class JwtResponse {
     private String token;
+    private String refreshToken;
     private String tokenType;
     private String name;
     private String email;
@@ -17,10 +18,19 @@ public class JwtResponse {
         this.email = email;
     }
 
+    public JwtResponse(String token, String refreshToken, String tokenType, String name, String email) {
+        this(token, tokenType, name, email);
+        this.refreshToken = refreshToken;
+    }
+
     public String getToken() {
         return token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
     public String getTokenType() {
         return tokenType;
     }
@@ -0,0 +1,239 @@
+package com.capstone.quicklendar.util.image;
+
+import com.capstone.quicklendar.util.ImageHandler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 업로드된 원본 이미지로 썸네일/목록/상세용 변형을 만드는 비동기 파이프라인
+// 워커 수와 대기열 크기가 제한된 풀에서 처리하고, 대기열이 가득 차면 버림 (이미지 요청 시 다시 요청됨)
+// 디코딩 전에 헤더의 가로/세로만 읽어 픽셀 수가 상한을 넘으면 변형을 만들지 않음 (작은 파일로 거대한 비트맵을 만드는 압축 폭탄 방지)
+@Component
+public class ImagePipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ImagePipeline.class);
+
+    private static final String VARIANT_DIR = "variants";
+    private static final String VARIANT_EXTENSION = ".jpg";
+
+    private final ImageHandler imageHandler;
+    private final Path uploadDir;
+    private final ThreadPoolExecutor workers;
+    private final long maxPixels;
+    // 대기 중이거나 처리 중인 원본 파일명 (중복 요청 방지)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong oversized = new AtomicLong();
+    private final AtomicLong totalProcessingNanos = new AtomicLong();
+
+    public ImagePipeline(ImageHandler imageHandler,
+                         @Value("${image.upload.dir}") String uploadDir,
+                         @Value("${image.pipeline.workers:2}") int workerCount,
+                         @Value("${image.pipeline.queue-capacity:100}") int queueCapacity,
+                         @Value("${image.pipeline.max-megapixels:40}") int maxMegapixels) {
+        this.imageHandler = imageHandler;
+        this.uploadDir = Paths.get(uploadDir);
+        this.maxPixels = maxMegapixels * 1_000_000L;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 변형 생성 요청. 이미 대기 중이거나 대기열이 가득 차면 false
+    public boolean submit(String fileName) {
+        if (fileName == null || !pending.add(fileName)) {
+            return false;
+        }
+        try {
+            workers.execute(() -> process(fileName));
+            submitted.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(fileName);
+            rejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    public Path originalPath(String fileName) {
+        return imageHandler.resolve(fileName);
+    }
+
+    // 내용 주소 이미지의 변형은 원본과 같은 방식으로 hash 앞 4자리로 디렉터리를 나눔
+    public Path variantPath(ImageVariant variant, String fileName) {
+        String name = Paths.get(fileName).getFileName().toString();
+        Path directory = uploadDir.resolve(VARIANT_DIR).resolve(variant.getName());
+        if (imageHandler.isContentAddressed(name)) {
+            directory = directory.resolve(name.substring(0, 2)).resolve(name.substring(2, 4));
+        }
+        return directory.resolve(name + VARIANT_EXTENSION);
+    }
+
+    public void deleteVariants(String fileName) throws IOException {
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(variantPath(variant, fileName));
+        }
+    }
+
+    private void process(String fileName) {
+        long started = System.nanoTime();
+        try {
+            BufferedImage original = read(fileName);
+            if (original == null) {
+                // ImageIO 가 읽을 수 없는 형식 -> 원본만 제공
+                log.warn("unsupported image format, skipping variants: {}", fileName);
+                failed.incrementAndGet();
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                writeJpeg(resize(original, variant.getMaxWidth()), variant.getQuality(), variantPath(variant, fileName));
+            }
+            completed.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            log.error("image variant generation failed: {}", fileName, e);
+        } finally {
+            pending.remove(fileName);
+            totalProcessingNanos.addAndGet(System.nanoTime() - started);
+        }
+    }
+
+    // 픽셀 수가 상한 이하일 때만 디코딩, ImageIO 가 읽을 수 없는 형식이거나 상한을 넘으면 null
+    private BufferedImage read(String fileName) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(originalPath(fileName).toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    oversized.incrementAndGet();
+                    throw new IOException("image too large: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로 maxWidth 이하로 비율 유지 축소. 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄임
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // JPEG 은 알파 채널이 없으므로 흰 배경 위에 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체 (쓰는 중인 파일이 제공되지 않도록)
+    private void writeJpeg(BufferedImage image, float quality, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long done = completed.get() + failed.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", workers.getQueue().size());
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("submitted", submitted.get());
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("oversized", oversized.get());
+        stats.put("avgProcessingMillis", done == 0 ? 0.0 : totalProcessingNanos.get() / 1_000_000.0 / done);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("image workers did not stop in time, {} tasks dropped", workers.shutdownNow().size());
+        }
+    }
+}
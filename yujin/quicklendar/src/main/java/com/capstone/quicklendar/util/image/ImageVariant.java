@@ -0,0 +1,45 @@
+package com.capstone.quicklendar.util.image;
+
+// 공모전 포스터 리사이즈 변형 (가로 최대 크기 + JPEG 품질)
+// 원본보다 작게만 줄이고, 파일은 {image.upload.dir}/variants/{name}/{원본 파일명}.jpg 에 저장
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 240, 0.75f),
+    LIST("list", 600, 0.8f),
+    DETAIL("detail", 1280, 0.85f);
+
+    private final String name;
+    private final int maxWidth;
+    private final float quality;
+
+    ImageVariant(String name, int maxWidth, float quality) {
+        this.name = name;
+        this.maxWidth = maxWidth;
+        this.quality = quality;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public float getQuality() {
+        return quality;
+    }
+
+    // 변형 이미지 URL (imageBaseUrl = 원본 이미지 URL prefix)
+    public String urlOf(String imageBaseUrl, String image) {
+        return image != null ? imageBaseUrl + "variants/" + name + "/" + image : null;
+    }
+
+    public static ImageVariant from(String name) {
+        for (ImageVariant variant : values()) {
+            if (variant.name.equals(name)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
@@ -1,14 +1,16 @@
 package com.capstone.quicklendar.util.jwt;
 
+import com.capstone.quicklendar.domain.user.CustomUserDetails;
 import com.capstone.quicklendar.service.user.CustomUserDetailsService;
+import com.capstone.quicklendar.service.user.TokenVersionRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -18,11 +20,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    // true 이면 토큰 claims 로 사용자 정보를 만들고, DB 는 색인으로 판단할 수 없을 때만 조회
+    private final boolean claimsOnly;
 
-    // 생성자를 통해 두 의존성을 주입받도록 수정
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService customUserDetailsService) {
+    // 생성자를 통해 의존성을 주입받도록 수정
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService customUserDetailsService,
+                                   TokenVersionRegistry tokenVersionRegistry, boolean claimsOnly) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.customUserDetailsService = customUserDetailsService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.claimsOnly = claimsOnly;
     }
 
     @Override
@@ -30,11 +38,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getTokenFromRequest(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String email = jwtTokenProvider.getUsername(token);
-
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-
+        // 토큰 검증 결과와 사용자 정보는 캐시를 거침 (같은 토큰이면 서명 검증/DB 조회를 반복하지 않음)
+        // 폐기 여부는 메모리의 폐기 목록으로만 확인
+        VerifiedToken verified = token != null ? jwtTokenProvider.verify(token) : null;
+        if (verified != null && (verified.isRefresh() || jwtTokenProvider.isRevoked(verified))) {
+            verified = null;
+        }
+        UserDetails userDetails = verified != null ? resolveUser(verified) : null;
+        if (userDetails != null) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -42,6 +53,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 폐기된 토큰(삭제/비활성 사용자, 지난 토큰 버전)이면 null
+    // 토큰 버전이 없는 예전 형식 토큰은 전체 로그아웃/비밀번호 변경으로 폐기할 수 없으므로 받지 않음
+    private UserDetails resolveUser(VerifiedToken verified) {
+        if (verified.getTokenVersion() == null) {
+            return null;
+        }
+        if (claimsOnly && verified.getUserId() != null) {
+            switch (tokenVersionRegistry.check(verified.getUserId(), verified.getTokenVersion())) {
+                case VALID:
+                    return CustomUserDetails.fromClaims(verified.getUserId(), verified.getSubject(), verified.getRoles());
+                case REVOKED:
+                    return null;
+                default:
+                    break;
+            }
+        }
+
+        UserDetails userDetails;
+        try {
+            userDetails = customUserDetailsService.loadUserByUsernameCached(verified.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        if (userDetails instanceof CustomUserDetails customUserDetails
+                && verified.getTokenVersion() < customUserDetails.getUser().getTokenVersion()) {
+            return null;
+        }
+        return userDetails;
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,6 +1,10 @@
 package com.capstone.quicklendar.util.jwt;
 
+import com.capstone.quicklendar.domain.user.User;
+import com.capstone.quicklendar.util.cache.TinyLfuCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,51 +13,172 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+
+    private static final String ROLES_CLAIM = "roles";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    // 로그인 한 번으로 이어지는 access/refresh token 묶음 id (로그아웃 시 묶음 전체 폐기)
+    private static final String FAMILY_CLAIM = "fam";
+    private static final String TYPE_CLAIM = "typ";
+    private static final String REFRESH_TYPE = "refresh";
+    private static final String FAMILY_KEY_PREFIX = "f:";
+
     private final Key key;
     private final long validityInMilliseconds;
+    private final long accessValidityInMilliseconds;
+    private final long refreshValidityInMilliseconds;
+    // 파서는 스레드 안전하므로 한 번만 만듦
+    private final JwtParser parser;
+    // 토큰 SHA-256 -> 검증 결과 (exp 가 지나면 사용하지 않음, 실패한 토큰은 저장하지 않음)
+    private final TinyLfuCache<String, VerifiedToken> verifiedTokens;
+    private final TokenRevocationStore revocationStore;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
-                            @Value("${jwt.expiration}") long validityInMilliseconds) {
+                            @Value("${jwt.expiration}") long validityInMilliseconds,
+                            @Value("${jwt.access-expiration:900000}") long accessValidityInMilliseconds,
+                            @Value("${jwt.refresh-expiration:1209600000}") long refreshValidityInMilliseconds,
+                            @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries,
+                            TokenRevocationStore revocationStore) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.validityInMilliseconds = validityInMilliseconds;
+        this.accessValidityInMilliseconds = accessValidityInMilliseconds;
+        this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = new TinyLfuCache<>("verifiedTokens", verifiedCacheMaxEntries, verifiedCacheMaxEntries,
+                token -> 1);
+        this.revocationStore = revocationStore;
+    }
+
+    // 짧게 유효한 access token, 사용자 id 와 토큰 버전을 담음
+    // (claims-only 인증 모드에서 DB 조회 없이 사용자 정보를 만들 수 있음)
+    public String createAccessToken(User user, String roles, String family) {
+        Claims claims = userClaims(user, roles, family);
+        return sign(claims, accessValidityInMilliseconds);
+    }
+
+    // access token 재발급용, 한 번 쓰면 폐기되고 새 refresh token 으로 교체됨
+    public String createRefreshToken(User user, String roles, String family) {
+        Claims claims = userClaims(user, roles, family);
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
+        return sign(claims, refreshValidityInMilliseconds);
+    }
+
+    public String newFamily() {
+        return UUID.randomUUID().toString();
     }
 
-    public String createToken(String username, String roles) {
-        Claims claims = Jwts.claims().setSubject(username);
-        claims.put("roles", roles);
+    private Claims userClaims(User user, String roles, String family) {
+        Claims claims = Jwts.claims().setSubject(user.getEmail());
+        claims.put(ROLES_CLAIM, roles);
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        claims.put(FAMILY_CLAIM, family);
+        return claims;
+    }
 
+    private String sign(Claims claims, long validity) {
         Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
+        Date expiration = new Date(now.getTime() + validity);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
-                .setExpiration(validity)
+                .setExpiration(expiration)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // 한 번 파싱해서 서명/만료 검증 후 claims 반환, 유효하지 않으면 null
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("invalid jwt: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 검증 결과 캐시를 거친 서명/만료 검증, 유효하지 않거나 만료되었으면 null
+    // 폐기 여부는 isRevoked 로 따로 확인
+    public VerifiedToken verify(String token) {
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(cacheKey);
+            return null;
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
         }
+        // exp 가 없는 토큰은 발급하지 않지만, 있더라도 캐시에서는 발급 유효 기간까지만 유지
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + validityInMilliseconds;
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.get(ROLES_CLAIM, String.class),
+                claims.get(USER_ID_CLAIM, Long.class), claims.get(TOKEN_VERSION_CLAIM, Integer.class),
+                claims.getId(), claims.get(FAMILY_CLAIM, String.class),
+                REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class)), expiresAt);
+        verifiedTokens.put(cacheKey, verified);
+        return verified;
+    }
+
+    // 토큰 자체(jti) 또는 토큰이 속한 묶음이 폐기되었는지 (메모리 조회만 함)
+    public boolean isRevoked(VerifiedToken token) {
+        return (token.getId() != null && revocationStore.isRevoked(token.getId()))
+                || (token.getFamily() != null && revocationStore.isRevoked(FAMILY_KEY_PREFIX + token.getFamily()));
+    }
+
+    // 이 토큰만 폐기, 이미 폐기된 토큰이었으면 false
+    public boolean revoke(VerifiedToken token) {
+        return token.getId() == null || revocationStore.revoke(token.getId(), token.getExpiresAtMillis());
+    }
+
+    // 묶음 전체 폐기 (묶음에서 발급될 수 있는 가장 늦은 토큰의 만료 시각까지 유지)
+    public void revokeFamily(String family) {
+        revocationStore.revoke(FAMILY_KEY_PREFIX + family, System.currentTimeMillis() + refreshValidityInMilliseconds);
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    public Map<String, Object> verifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    public Map<String, Object> revocationStats() {
+        return revocationStore.stats();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,125 @@
+package com.capstone.quicklendar.util.jwt;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 폐기된 토큰 id 목록 (키마다 만료 시각이 있고, 만료된 키는 시간 버킷 단위로 한꺼번에 제거)
+// 조회: Bloom filter 로 대부분의 (폐기되지 않은) 키를 락 없이 걸러내고, 통과한 경우에만 정확한 맵에서 확인
+// 추가/정리는 이 객체 단위로 직렬화, 정리 때 살아 있는 키로 Bloom filter 를 다시 만듦
+public class RevocationList {
+
+    private static final int HASH_COUNT = 5;
+
+    private final int bitCount;
+    private final long bucketMillis;
+    private volatile AtomicLongArray bloom;
+    private final Map<String, Long> exact = new ConcurrentHashMap<>();
+    // 만료 시각 버킷 -> 그 버킷에서 만료되는 키
+    private final TreeMap<Long, List<String>> buckets = new TreeMap<>();
+
+    public RevocationList(int bitCount, long bucketMillis) {
+        this.bitCount = Math.max(64, bitCount);
+        this.bucketMillis = bucketMillis;
+        this.bloom = new AtomicLongArray((this.bitCount + 63) / 64);
+    }
+
+    // 새로 추가되었으면 true, 이미 폐기된 키면 false
+    public synchronized boolean add(String key, long expiresAtMillis) {
+        Long previous = exact.get(key);
+        if (previous != null && previous >= expiresAtMillis) {
+            return false;
+        }
+        exact.put(key, expiresAtMillis);
+        buckets.computeIfAbsent(expiresAtMillis / bucketMillis, bucket -> new ArrayList<>()).add(key);
+        setBits(bloom, key);
+        return previous == null;
+    }
+
+    public boolean contains(String key, long nowMillis) {
+        if (!mightContain(bloom, key)) {
+            return false;
+        }
+        Long expiresAt = exact.get(key);
+        return expiresAt != null && expiresAt > nowMillis;
+    }
+
+    // 만료 시각이 지난 버킷 제거 후 Bloom filter 재구성, 제거한 키 수 반환
+    public synchronized int purgeExpired(long nowMillis) {
+        int removed = 0;
+        Iterator<Map.Entry<Long, List<String>>> iterator = buckets.headMap(nowMillis / bucketMillis).entrySet().iterator();
+        while (iterator.hasNext()) {
+            for (String key : iterator.next().getValue()) {
+                // 더 늦은 만료 시각으로 다시 추가된 키는 남겨 둠
+                Long expiresAt = exact.get(key);
+                if (expiresAt != null && expiresAt <= nowMillis) {
+                    exact.remove(key);
+                    removed++;
+                }
+            }
+            iterator.remove();
+        }
+        if (removed > 0) {
+            AtomicLongArray rebuilt = new AtomicLongArray(bloom.length());
+            for (String key : exact.keySet()) {
+                setBits(rebuilt, key);
+            }
+            bloom = rebuilt;
+        }
+        return removed;
+    }
+
+    public int size() {
+        return exact.size();
+    }
+
+    public Map<String, Long> snapshot() {
+        return new HashMap<>(exact);
+    }
+
+    private void setBits(AtomicLongArray bits, String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int index = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(index);
+            } while ((current & mask) == 0 && !bits.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray bits, String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64bit + 최종 섞기 (키는 짧은 ASCII 문자열이므로 char 단위로 처리)
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
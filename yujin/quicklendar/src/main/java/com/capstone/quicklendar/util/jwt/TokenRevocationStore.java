@@ -0,0 +1,177 @@
+package com.capstone.quicklendar.util.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 폐기된 토큰(jti)/세션(refresh token family) 목록
+// 메모리의 RevocationList 로 요청마다 DB 없이 확인하고, 재시작 후에도 유지되도록 로컬 파일에 추가 기록("키\t만료시각")
+// 기동 시 파일을 다시 읽고, 만료된 줄이 많아지면 살아 있는 항목만 새 파일로 옮겨 씀
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    private final Path file;
+    private final RevocationList revocations;
+
+    private FileChannel channel;
+    // 현재 파일의 줄 수 (만료된 줄 포함)
+    private long fileLines;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong revokedHits = new AtomicLong();
+
+    public TokenRevocationStore(@Value("${jwt.revocation.file:./data/revoked-tokens.log}") String file,
+                                @Value("${jwt.revocation.bloom-bits:1048576}") int bloomBits,
+                                @Value("${jwt.revocation.bucket-ms:3600000}") long bucketMillis) {
+        this.file = Paths.get(file);
+        this.revocations = new RevocationList(bloomBits, bucketMillis);
+    }
+
+    @PostConstruct
+    public synchronized void load() throws IOException {
+        long now = System.currentTimeMillis();
+        long lines = 0;
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    int tab = line.indexOf('\t');
+                    if (tab <= 0) {
+                        // 비정상 종료로 잘린 마지막 줄
+                        continue;
+                    }
+                    try {
+                        long expiresAt = Long.parseLong(line.substring(tab + 1));
+                        if (expiresAt > now) {
+                            revocations.add(line.substring(0, tab), expiresAt);
+                        }
+                    } catch (NumberFormatException e) {
+                        log.warn("skipping malformed revocation entry: {}", line);
+                    }
+                }
+            }
+        }
+        fileLines = lines;
+        if (lines > revocations.size()) {
+            compact();
+        } else {
+            openChannel();
+        }
+        log.info("token revocation list loaded: {} live entries from {}", revocations.size(), file);
+    }
+
+    // 이미 폐기된 키였으면 false (refresh token 재사용 감지에 사용)
+    public boolean revoke(String key, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            // 이미 만료된 토큰은 서명 검증 단계에서 거부되므로 기록할 필요 없음
+            return true;
+        }
+        synchronized (this) {
+            if (!revocations.add(key, expiresAtMillis)) {
+                return false;
+            }
+            append(key, expiresAtMillis);
+            return true;
+        }
+    }
+
+    public boolean isRevoked(String key) {
+        checks.incrementAndGet();
+        boolean revoked = revocations.contains(key, System.currentTimeMillis());
+        if (revoked) {
+            revokedHits.incrementAndGet();
+        }
+        return revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:600000}")
+    public synchronized void purge() throws IOException {
+        int removed = revocations.purgeExpired(System.currentTimeMillis());
+        if (removed > 0 && fileLines > 2L * revocations.size() + 1024) {
+            compact();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", revocations.size());
+        stats.put("checks", checks.get());
+        stats.put("revokedHits", revokedHits.get());
+        synchronized (this) {
+            stats.put("fileLines", fileLines);
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void append(String key, long expiresAtMillis) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap((key + '\t' + expiresAtMillis + '\n').getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            // 로그아웃/토큰 교체 때만 기록되므로 매번 디스크에 반영
+            channel.force(false);
+            fileLines++;
+        } catch (IOException e) {
+            // 메모리에는 반영되었으므로 이 인스턴스가 살아 있는 동안은 폐기 상태가 유지됨
+            throw new UncheckedIOException("failed to persist token revocation", e);
+        }
+    }
+
+    // 살아 있는 항목만 임시 파일에 쓴 뒤 원자적으로 교체
+    private void compact() throws IOException {
+        close();
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, ".revoked-", ".tmp");
+        try {
+            Map<String, Long> live = revocations.snapshot();
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.US_ASCII)) {
+                for (Map.Entry<String, Long> entry : live.entrySet()) {
+                    writer.write(entry.getKey() + '\t' + entry.getValue() + '\n');
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            fileLines = live.size();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        openChannel();
+    }
+
+    private void openChannel() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,65 @@
+package com.capstone.quicklendar.util.jwt;
+
+// 서명/만료 검증을 통과한 토큰의 내용 (검증 결과 캐시 값)
+public class VerifiedToken {
+
+    private final String subject;
+    private final String roles;
+    // 이전 형식 토큰에는 없음 (null)
+    private final Long userId;
+    private final Integer tokenVersion;
+    // jti, 로그인 묶음 id (이전 형식 토큰에는 없음)
+    private final String id;
+    private final String family;
+    private final boolean refresh;
+    private final long expiresAtMillis;
+
+    public VerifiedToken(String subject, String roles, Long userId, Integer tokenVersion,
+                         String id, String family, boolean refresh, long expiresAtMillis) {
+        this.subject = subject;
+        this.roles = roles;
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.id = id;
+        this.family = family;
+        this.refresh = refresh;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFamily() {
+        return family;
+    }
+
+    // refresh token 은 재발급에만 쓰이고 요청 인증에는 쓰일 수 없음
+    public boolean isRefresh() {
+        return refresh;
+    }
+
+    public String getRoles() {
+        return roles;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
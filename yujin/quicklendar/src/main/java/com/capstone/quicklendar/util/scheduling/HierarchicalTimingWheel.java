@@ -0,0 +1,180 @@
+package com.capstone.quicklendar.util.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 계층형 타이밍 휠 (예약/취소 O(1), 만료 처리는 틱마다 버킷 하나)
+// 시각을 tickMillis 단위 틱으로 나누고, 틱 번호를 wheelBits 비트씩 잘라 단계(level)별 버킷 번호로 사용
+// 예) 1초 틱, 64칸(6비트), 5단계 -> 64초 / 68분 / 73시간 / 194일 / 34년 범위
+// 위 단계 버킷은 아래 자리수가 모두 0 이 되는 틱에 한 번 아래 단계로 다시 나눠 담음 (타이머 하나당 최대 단계 수만큼만 이동)
+// 스레드 하나가 advance 를 호출하고, 예약/취소는 어느 스레드에서나 가능 (this 로 동기화)
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int mask;
+    private final Bucket<T>[][] levels;
+    // 가장 위 단계 범위를 넘는 타이머 (가장 위 단계가 한 바퀴 돌 때마다 다시 넣어 봄)
+    private final Bucket<T> overflow = new Bucket<>();
+
+    private long currentTick;
+    private int size;
+
+    // 제네릭 배열은 raw 타입으로 만들 수밖에 없음
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HierarchicalTimingWheel(long tickMillis, int wheelBits, int levelCount, long startMillis) {
+        if (wheelBits * levelCount >= 63) {
+            throw new IllegalArgumentException("wheelBits * levelCount must be less than 63");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.mask = (1 << wheelBits) - 1;
+        this.levels = new Bucket[levelCount][1 << wheelBits];
+        for (Bucket<T>[] level : levels) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // deadlineMillis 에 만료되는 타이머 예약 (이미 지난 시각이면 다음 advance 에서 만료)
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        // 만료 시각이 속한 틱이 끝난 뒤에 만료 (일찍 만료되지 않도록 올림)
+        long deadlineTick = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        Timeout<T> timeout = new Timeout<>(payload, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    // nowMillis 까지 틱을 진행하고 만료된 타이머의 payload 반환 (만료 순서대로)
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 위 단계부터 아래로: 이번 틱에 자리수가 넘어간 단계의 버킷을 아래 단계로 다시 나눔
+            for (int level = levels.length - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (wheelBits * level)) - 1)) == 0) {
+                    cascade(levels[level][index(currentTick, level)]);
+                }
+            }
+            if ((currentTick & ((1L << (wheelBits * levels.length)) - 1)) == 0) {
+                cascade(overflow);
+            }
+
+            Bucket<T> bucket = levels[0][index(currentTick, 0)];
+            Timeout<T> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                size--;
+                expired.add(timeout.payload);
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout;
+        List<Timeout<T>> moved = new ArrayList<>();
+        while ((timeout = bucket.poll()) != null) {
+            moved.add(timeout);
+        }
+        moved.forEach(this::place);
+    }
+
+    // 현재 틱과 만료 틱의 위 자리수가 같아지는 가장 낮은 단계에 넣음
+    // (다시 나눠 담는 중 만료 틱이 바로 지금인 타이머는 이번 틱에 처리할 0단계 버킷으로 들어감)
+    private void place(Timeout<T> timeout) {
+        long deadlineTick = timeout.deadlineTick;
+        for (int level = 0; level < levels.length; level++) {
+            int shift = wheelBits * (level + 1);
+            if ((deadlineTick >>> shift) == (currentTick >>> shift)) {
+                levels[level][index(deadlineTick, level)].add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    private int index(long tick, int level) {
+        return (int) ((tick >>> (wheelBits * level)) & mask);
+    }
+
+    // 예약된 타이머 (cancel 에 사용)
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+
+    // 이중 연결 리스트 (추가/삭제 O(1))
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private Timeout<T> poll() {
+            Timeout<T> timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.capstone.quicklendar.util.security;
+
+// 비밀번호 해싱 대기열이 가득 찼거나 대기 시간이 초과됨 (429 로 응답)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
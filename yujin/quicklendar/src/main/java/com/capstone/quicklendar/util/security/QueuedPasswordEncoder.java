@@ -0,0 +1,188 @@
+package com.capstone.quicklendar.util.security;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt 해싱/비교를 요청 스레드 대신 전용 워커 풀에서 수행
+// 로그인이 몰려도 CPU 를 쓰는 스레드 수가 워커 수로 제한되고, 대기열이 가득 차면 바로 PasswordHashingBusyException (429)
+// cost 는 설정값으로 고정 (인스턴스마다, 재기동마다 달라지지 않도록). 기동 시 목표 해싱 시간에 맞는 cost 를 측정해 로그로만 제안
+// 저장된 해시의 cost 가 현재 cost 보다 낮을 때만 upgradeEncoding 이 true -> 로그인 성공 시 새 cost 로 다시 저장됨 (cost 를 내리지는 않음)
+@Component
+public class QueuedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(QueuedPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    // BCryptPasswordEncoder 기본값 미만으로는 내리지 않음
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 16;
+
+    private final int cost;
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor workers;
+    private final long maxWaitMillis;
+    private volatile int suggestedCost;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public QueuedPasswordEncoder(@Value("${security.password-hashing.cost:10}") int cost,
+                                 @Value("${security.password-hashing.target-millis:250}") long targetMillis,
+                                 @Value("${security.password-hashing.workers:0}") int workerCount,
+                                 @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                 @Value("${security.password-hashing.max-wait-ms:5000}") long maxWaitMillis) {
+        this.cost = cost;
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.maxWaitMillis = maxWaitMillis;
+        int threads = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        log.info("password hashing: bcrypt cost {}, {} workers, queue capacity {}", cost, threads, queueCapacity);
+        if (targetMillis > 0) {
+            workers.execute(() -> suggestCost(targetMillis));
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            // OAuth 가입 사용자 등 비밀번호가 없는 경우, 해싱할 필요 없음
+            return false;
+        }
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public Map<String, Object> stats() {
+        long done = completed.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cost", cost);
+        stats.put("suggestedCost", suggestedCost);
+        stats.put("queueDepth", workers.getQueue().size());
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("completed", done);
+        stats.put("rejected", rejected.get());
+        stats.put("timedOut", timedOut.get());
+        stats.put("avgQueueWaitMillis", done == 0 ? 0.0 : totalQueueWaitNanos.get() / 1_000_000.0 / done);
+        stats.put("maxQueueWaitMillis", maxQueueWaitNanos.get() / 1_000_000.0);
+        stats.put("avgHashMillis", done == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / done);
+        stats.put("maxHashMillis", maxHashNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = workers.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long finished = System.nanoTime();
+                    record(started - submittedAt, totalQueueWaitNanos, maxQueueWaitNanos);
+                    record(finished - started, totalHashNanos, maxHashNanos);
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void record(long nanos, AtomicLong total, AtomicLong max) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    // 해싱 시간이 targetMillis 를 넘지 않는 가장 큰 cost 를 측정해 제안만 함 (cost 가 1 오르면 시간은 약 2배)
+    private void suggestCost(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_COST);
+        probe.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long started = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        double millis = Math.max(best / 1_000_000.0, 0.001);
+        int calibrated = MIN_COST + (int) Math.floor(Math.log(targetMillis / millis) / Math.log(2));
+        calibrated = Math.max(MIN_COST, Math.min(MAX_COST, calibrated));
+        suggestedCost = calibrated;
+        if (calibrated != cost) {
+            log.info("bcrypt cost {} hash took {} ms on this host; cost {} would fit the {} ms target"
+                            + " (security.password-hashing.cost is {})",
+                    MIN_COST, String.format("%.1f", millis), calibrated, targetMillis, cost);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.capstone.quicklendar.benchmark;
+
+import com.capstone.quicklendar.QuicklendarApplication;
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.domain.user.User;
+import com.capstone.quicklendar.service.competition.CompetitionService;
+import com.capstone.quicklendar.service.user.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+// 회원가입/로그인/인증된 공모전 조회/좋아요 부하 벤치마크 (JUnit 테스트가 아닌 main 실행)
+// 애플리케이션을 같은 JVM 에서 임베디드 DB(H2, MySQL 호환 모드)로 띄운 뒤 HTTP 로 부하를 줌
+//
+// 사용법: AuthFlowBenchmark [-Dscenarios=signup,login,read,like,mixed] [-Dthreads=16] [-Dseconds=20] [-Dwarmup=5]
+//                           [-Dusers=200] [-Dcompetitions=500] [-Dcost=10]
+// -Dspring.datasource.url=... 로 로컬 MySQL 등 다른 DB 를 지정할 수 있음 (H2 는 테스트 클래스패스에 있어야 함)
+// 시나리오별로 처리량, 지연 시간 분포(p50/p90/p99/p99.9/max), 응답 코드별 횟수, 할당 속도(서버 스레드/전체)를 출력
+// 배포 전에 같은 조건으로 이전 결과와 비교해서 회귀를 확인
+public class AuthFlowBenchmark {
+
+    private static final String PASSWORD = "Bench1234!";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String CLIENT_THREAD_PREFIX = "bench-client-";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int users;
+    private final int competitions;
+    // 회원가입 시나리오에서 매번 새 이메일을 쓰기 위한 번호
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    private AuthFlowBenchmark(HttpClient client, String baseUrl, int users, int competitions) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.competitions = competitions;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] scenarios = System.getProperty("scenarios", "signup,login,read,like,mixed").split(",");
+        int threads = Integer.getInteger("threads", 16);
+        int seconds = Integer.getInteger("seconds", 20);
+        int warmup = Integer.getInteger("warmup", 5);
+        int users = Integer.getInteger("users", 200);
+        int competitions = Integer.getInteger("competitions", 500);
+
+        // 기본값 (같은 이름의 시스템 속성/application.properties 가 있으면 그쪽이 우선)
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("server.port", 0);
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        defaults.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        defaults.put("spring.jpa.show-sql", false);
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("security.password-hashing.cost", Integer.getInteger("cost", 10));
+        defaults.put("jwt.revocation.file", Files.createTempFile("bench-revoked-", ".log").toString());
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(QuicklendarApplication.class)
+                .properties(defaults)
+                .run(args);
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            AtomicInteger clientThreads = new AtomicInteger();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newFixedThreadPool(threads, runnable ->
+                            new Thread(runnable, CLIENT_THREAD_PREFIX + "io-" + clientThreads.incrementAndGet())))
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            AuthFlowBenchmark benchmark = new AuthFlowBenchmark(client, baseUrl, users, competitions);
+            benchmark.seed(context);
+
+            System.out.printf("threads=%d seconds=%d warmup=%d users=%d competitions=%d%n",
+                    threads, seconds, warmup, users, competitions);
+            System.out.printf("%-8s %10s %9s %9s %9s %9s %9s %12s %12s  %s%n", "scenario", "req/s",
+                    "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "srv MB/s", "all MB/s", "status");
+            for (String name : scenarios) {
+                Scenario scenario = benchmark.scenario(name.trim());
+                benchmark.run(scenario, threads, warmup);
+                Result result = benchmark.run(scenario, threads, seconds);
+                result.print(name.trim());
+            }
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    // 로그인용 사용자와 조회/좋아요용 공모전을 미리 만들어 둠 (서비스를 직접 호출)
+    private void seed(ConfigurableApplicationContext context) {
+        UserService userService = context.getBean(UserService.class);
+        IntStream.range(0, users).parallel().forEach(i -> {
+            User user = new User();
+            user.setEmail(userEmail(i));
+            user.setPassword(PASSWORD);
+            user.setName("bench" + i);
+            userService.join(user);
+        });
+
+        CompetitionService competitionService = context.getBean(CompetitionService.class);
+        LocalDate base = LocalDate.now();
+        for (int i = 0; i < competitions; i++) {
+            Competition competition = new Competition();
+            competition.setName("벤치마크 공모전 " + i);
+            competition.setDescription("벤치마크용 공모전 설명 " + i);
+            competition.setHost("주최 " + (i % 20));
+            competition.setRequestPath("https://example.com/" + i);
+            competition.setCategory(Category.values()[i % Category.values().length]);
+            competition.setCompetitionType(CompetitionType.values()[i % CompetitionType.values().length]);
+            competition.setRequestStartDate(base.plusDays(i % 60));
+            competition.setRequestEndDate(base.plusDays(i % 60 + 14));
+            competition.setStartDate(base.plusDays(i % 60 + 20));
+            competition.setEndDate(base.plusDays(i % 60 + 30));
+            competitionService.addCompetition(competition);
+        }
+    }
+
+    private Scenario scenario(String name) {
+        switch (name) {
+            case "signup":
+                return worker -> signup();
+            case "login":
+                return worker -> login(userEmail(worker.random.nextInt(users)));
+            case "read":
+                return this::read;
+            case "like":
+                return this::toggleLike;
+            case "mixed":
+                // 실제 사용 비율에 가깝게: 조회 70%, 좋아요 15%, 로그인 10%, 회원가입 5%
+                return worker -> {
+                    int dice = worker.random.nextInt(100);
+                    if (dice < 70) {
+                        return read(worker);
+                    } else if (dice < 85) {
+                        return toggleLike(worker);
+                    } else if (dice < 95) {
+                        return login(userEmail(worker.random.nextInt(users)));
+                    }
+                    return signup();
+                };
+            default:
+                throw new IllegalArgumentException("unknown scenario: " + name);
+        }
+    }
+
+    private HttpRequest signup() {
+        long n = signupSequence.incrementAndGet();
+        return json("/signup", "{\"email\":\"signup" + n + "@bench.test\",\"password\":\"" + PASSWORD
+                + "\",\"name\":\"signup" + n + "\",\"phone\":\"010-0000-0000\"}").build();
+    }
+
+    private HttpRequest login(String email) {
+        return json("/login", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}").build();
+    }
+
+    // 목록 첫 페이지와 상세 조회를 섞어서
+    private HttpRequest read(Worker worker) {
+        String path = worker.random.nextInt(4) == 0
+                ? "/competitions/page?size=20"
+                : "/competitions/details/" + (1 + worker.random.nextInt(competitions));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + worker.token())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest toggleLike(Worker worker) {
+        URI uri = URI.create(baseUrl + "/competitions/" + (1 + worker.random.nextInt(competitions)) + "/like");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + worker.token());
+        return (worker.random.nextBoolean() ? builder.POST(HttpRequest.BodyPublishers.noBody()) : builder.DELETE()).build();
+    }
+
+    private HttpRequest.Builder json(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private Result run(Scenario scenario, int threads, int seconds) throws Exception {
+        AtomicInteger workerNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable ->
+                new Thread(runnable, CLIENT_THREAD_PREFIX + workerNumber.incrementAndGet()));
+        long[] allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+        long deadline = started + Duration.ofSeconds(seconds).toNanos();
+
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            futures.add(workers.submit(() -> {
+                Worker worker = new Worker(userEmail(index % users));
+                Result result = new Result();
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = scenario.next(worker);
+                    long requestStarted = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        result.record(System.nanoTime() - requestStarted, response.statusCode());
+                    } catch (Exception e) {
+                        result.record(System.nanoTime() - requestStarted, -1);
+                    }
+                }
+                return result;
+            }));
+        }
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        workers.shutdown();
+        long[] allocatedAfter = allocatedBytes();
+        total.elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        total.serverAllocatedBytes = allocatedAfter[0] - allocatedBefore[0];
+        total.allAllocatedBytes = allocatedAfter[1] - allocatedBefore[1];
+        return total;
+    }
+
+    // {부하 클라이언트를 뺀 스레드, 전체 스레드} 가 지금까지 할당한 바이트 (살아 있는 스레드 기준)
+    private static long[] allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long server = 0;
+        long all = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            long bytes = threads.getThreadAllocatedBytes(thread.getId());
+            if (bytes < 0) {
+                continue;
+            }
+            all += bytes;
+            if (!thread.getName().startsWith(CLIENT_THREAD_PREFIX) && !thread.getName().startsWith("HttpClient-")) {
+                server += bytes;
+            }
+        }
+        return new long[]{server, all};
+    }
+
+    private static String userEmail(int index) {
+        return "user" + index + "@bench.test";
+    }
+
+    private interface Scenario {
+        HttpRequest next(Worker worker);
+    }
+
+    // 부하 스레드별 상태 (난수, 필요할 때 한 번 로그인해서 받은 access token)
+    private final class Worker {
+        private final ThreadLocalRandom random = ThreadLocalRandom.current();
+        private final String email;
+        private String token;
+
+        private Worker(String email) {
+            this.email = email;
+        }
+
+        private String token() {
+            if (token == null) {
+                try {
+                    HttpResponse<String> response = client.send(login(email), HttpResponse.BodyHandlers.ofString());
+                    Matcher matcher = TOKEN.matcher(response.body());
+                    if (!matcher.find()) {
+                        throw new IllegalStateException("login failed: " + response.statusCode() + " " + response.body());
+                    }
+                    token = matcher.group(1);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return token;
+        }
+    }
+
+    private static final class Result {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final Map<Integer, Long> statuses = new HashMap<>();
+        private double elapsedSeconds;
+        private long serverAllocatedBytes;
+        private long allAllocatedBytes;
+
+        private void record(long nanos, int status) {
+            latencies.record(nanos);
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        private void merge(Result other) {
+            latencies.merge(other.latencies);
+            other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+
+        private void print(String name) {
+            System.out.printf("%-8s %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %12.1f %12.1f  %s%n", name,
+                    latencies.count() / elapsedSeconds,
+                    millis(latencies.percentile(0.50)), millis(latencies.percentile(0.90)),
+                    millis(latencies.percentile(0.99)), millis(latencies.percentile(0.999)), millis(latencies.max()),
+                    serverAllocatedBytes / elapsedSeconds / (1024 * 1024), allAllocatedBytes / elapsedSeconds / (1024 * 1024),
+                    statuses);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
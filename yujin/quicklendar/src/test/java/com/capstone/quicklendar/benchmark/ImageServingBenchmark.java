@@ -0,0 +1,129 @@
+package com.capstone.quicklendar.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 이미지 응답 처리량 비교 벤치마크 (JUnit 테스트가 아닌 main 실행, 서버를 띄운 상태에서 실행)
+//
+// 사용법: ImageServingBenchmark <url> [<url> ...] [-Dthreads=16] [-Dseconds=20] [-Dwarmup=5] [-Drange=true]
+// 예) 같은 포스터를 새 경로(/images/{hash}.jpg)와 기존 정적 리소스 경로로 각각 요청해 비교
+//     (기존 경로 측정은 이 변경 이전 빌드나 spring.web.resources 로 서빙되는 URL 을 사용)
+// -Drange=true 이면 매 요청마다 임의의 64KB 구간을 Range 로 요청
+public class ImageServingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: ImageServingBenchmark <url> [<url> ...]");
+            System.exit(1);
+        }
+        int threads = Integer.getInteger("threads", 16);
+        int seconds = Integer.getInteger("seconds", 20);
+        int warmup = Integer.getInteger("warmup", 5);
+        boolean range = Boolean.getBoolean("range");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(threads))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("threads=%d seconds=%d warmup=%d range=%s%n", threads, seconds, warmup, range);
+        for (String url : args) {
+            run(client, URI.create(url), threads, warmup, range);
+            Result result = run(client, URI.create(url), threads, seconds, range);
+            System.out.printf("%-70s %10.1f req/s %10.1f MB/s  p50 %6.2f ms  p99 %6.2f ms  errors %d%n",
+                    url, result.requestsPerSecond(), result.megabytesPerSecond(),
+                    result.percentile(0.50), result.percentile(0.99), result.errors);
+        }
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, URI uri, int threads, int seconds, boolean range) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(workers.submit(() -> {
+                Result result = new Result();
+                long offset = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest.Builder request = HttpRequest.newBuilder(uri).GET();
+                    if (range) {
+                        offset = (offset + 65_536) % (1 << 20);
+                        request.header("Range", "bytes=" + offset + "-" + (offset + 65_535));
+                    }
+                    long started = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                        if (response.statusCode() >= 400) {
+                            result.errors++;
+                        } else {
+                            result.record(System.nanoTime() - started, response.body().length);
+                        }
+                    } catch (Exception e) {
+                        result.errors++;
+                    }
+                }
+                return result;
+            }));
+        }
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        workers.shutdown();
+        total.elapsedSeconds = seconds;
+        return total;
+    }
+
+    private static final class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long bytes;
+        private long errors;
+        private double elapsedSeconds;
+
+        private void record(long nanos, long length) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            bytes += length;
+        }
+
+        private void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], 0);
+            }
+            bytes += other.bytes;
+            errors += other.errors;
+        }
+
+        private double requestsPerSecond() {
+            return count / elapsedSeconds;
+        }
+
+        private double megabytesPerSecond() {
+            return bytes / elapsedSeconds / (1024 * 1024);
+        }
+
+        private double percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) (count * p))] / 1_000_000.0;
+        }
+    }
+}
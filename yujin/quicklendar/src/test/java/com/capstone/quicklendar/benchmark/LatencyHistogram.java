@@ -0,0 +1,80 @@
+package com.capstone.quicklendar.benchmark;
+
+// 벤치마크용 지연 시간 히스토그램 (HdrHistogram 과 같은 로그-선형 버킷, 유효숫자 약 2자리)
+// 2의 거듭제곱 구간마다 64개 하위 버킷으로 나눠서, 기록은 O(1) 이고 메모리는 고정
+// 스레드마다 하나씩 쓰고 끝난 뒤 merge
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 64 - SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(MAGNITUDES + 1) * SUB_BUCKETS];
+    private long total;
+    private long max;
+    private long sum;
+
+    void record(long value) {
+        long v = Math.max(0, value);
+        counts[indexOf(v)]++;
+        total++;
+        sum += v;
+        max = Math.max(max, v);
+    }
+
+    void merge(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return total;
+    }
+
+    long max() {
+        return max;
+    }
+
+    double mean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    // p 분위 값 (버킷 상한, 실제 값보다 최대 약 1.6% 큼)
+    long percentile(double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(i));
+            }
+        }
+        return max;
+    }
+
+    // 0~63 은 그대로, 그 이상은 [64·2^m, 128·2^m) 구간을 64 등분
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> magnitude) - SUB_BUCKETS;
+        return (magnitude + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((sub + SUB_BUCKETS + 1L) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,159 @@
+package com.capstone.quicklendar.service.competition.calendar;
+
+import com.capstone.quicklendar.domain.competition.Category;
+import com.capstone.quicklendar.domain.competition.Competition;
+import com.capstone.quicklendar.domain.competition.CompetitionType;
+import com.capstone.quicklendar.util.dto.CompetitionDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IcsWriterTest {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    @Test
+    void shortLineIsWrittenAsIs() {
+        assertEquals("SUMMARY:hello\r\n", write("SUMMARY:hello"));
+        String exactly75 = "X".repeat(75);
+        assertEquals(exactly75 + "\r\n", write(exactly75));
+    }
+
+    @Test
+    void asciiLineIsFoldedAt75Octets() {
+        String content = "DESCRIPTION:" + "a".repeat(200);
+        List<byte[]> lines = physicalLines(writeBytes(content));
+        assertEquals(75, lines.get(0).length);
+        for (int i = 1; i < lines.size(); i++) {
+            assertEquals(' ', lines.get(i)[0]);
+            assertTrue(lines.get(i).length <= 75);
+        }
+        // 이어지는 줄은 공백 1 + 74 옥텟
+        assertEquals(75, lines.get(1).length);
+        assertEquals(content, unfold(lines));
+    }
+
+    @Test
+    void multibyteCharactersAreNeverSplit() {
+        // 한글 3바이트, 이모지 4바이트: 75 옥텟 경계가 글자 중간에 오도록 앞에 ASCII 를 1~3 글자 둠
+        for (String prefix : new String[]{"SUMMARY:", "SUMMARY:a", "SUMMARY:ab", "SUMMARY:abc"}) {
+            for (String text : new String[]{"가".repeat(60), "😀".repeat(40), "가😀é".repeat(25)}) {
+                String content = prefix + text;
+                byte[] written = writeBytes(content);
+                List<byte[]> lines = physicalLines(written);
+                for (int i = 0; i < lines.size(); i++) {
+                    byte[] line = lines.get(i);
+                    assertTrue(line.length <= 75, "line " + i + " has " + line.length + " octets");
+                    int start = i == 0 ? 0 : 1;
+                    // 줄의 첫 바이트(접힌 줄은 공백 다음)가 UTF-8 연속 바이트가 아니어야 함
+                    if (line.length > start) {
+                        assertFalse((line[start] & 0xC0) == 0x80, "line " + i + " starts inside a character");
+                    }
+                    // 각 물리적 줄이 그 자체로 올바른 UTF-8
+                    String decoded = new String(line, StandardCharsets.UTF_8);
+                    assertFalse(decoded.contains("\uFFFD"), "line " + i + " is not valid UTF-8");
+                }
+                assertEquals(content, unfold(lines));
+            }
+        }
+    }
+
+    @Test
+    void foldedLinesUseAsMuchOfTheLimitAsPossible() {
+        // "SUMMARY:" 8 + 한글 3바이트 -> 첫 줄은 8 + 3*22 = 74 옥텟 (23 번째 글자는 77 이 되므로 다음 줄)
+        List<byte[]> lines = physicalLines(writeBytes("SUMMARY:" + "가".repeat(80)));
+        assertEquals(74, lines.get(0).length);
+        // 이어지는 줄은 공백 1 + 3*24 = 73 옥텟
+        assertEquals(73, lines.get(1).length);
+    }
+
+    @Test
+    void escapeHandlesSpecialAndControlCharacters() {
+        assertEquals("a\\,b\\;c\\\\d\\ne", IcsWriter.escape("a,b;c\\d\r\ne"));
+        assertEquals("tab\tok", IcsWriter.escape("tab\tok"));
+        assertEquals("nobell", IcsWriter.escape("no\u0007bell\u0085"));
+        assertEquals("", IcsWriter.escape(null));
+    }
+
+    @Test
+    void urlWithControlCharactersIsNotWrittenAsUrlProperty() {
+        assertTrue(IcsWriter.isHttpUri("https://example.com/apply?id=1"));
+        assertFalse(IcsWriter.isHttpUri("https://example.com/\r\nATTACH:http://evil"));
+        assertFalse(IcsWriter.isHttpUri("https://example.com/a b"));
+        assertFalse(IcsWriter.isHttpUri("javascript:alert(1)"));
+
+        Competition competition = competition("https://example.com/x\r\nATTENDEE:mailto:evil@example.com");
+        String ics = new String(IcsWriter.events(new CompetitionDTO(competition, "http://localhost/images/")),
+                StandardCharsets.UTF_8);
+        for (String line : ics.split("\r\n")) {
+            assertFalse(line.startsWith("ATTENDEE"), line);
+            assertFalse(line.startsWith("URL:"), line);
+        }
+        // 접수 링크로 쓰지 못한 값은 이스케이프해서 설명에 남음
+        assertTrue(ics.replace("\r\n ", "").contains("\\nATTENDEE:mailto:evil@example.com"));
+    }
+
+    @Test
+    void safeUrlIsWrittenAsUrlProperty() {
+        String ics = new String(IcsWriter.events(new CompetitionDTO(competition("https://example.com/apply"),
+                "http://localhost/images/")), StandardCharsets.UTF_8);
+        assertTrue(ics.contains("\r\nURL:https://example.com/apply\r\n"));
+    }
+
+    private static Competition competition(String requestPath) {
+        Competition competition = new Competition();
+        competition.setName("공모전\r\nX-INJECTED:1");
+        competition.setHost("주최");
+        competition.setRequestPath(requestPath);
+        competition.setCategory(Category.values()[0]);
+        competition.setCompetitionType(CompetitionType.values()[0]);
+        competition.setStartDate(LocalDate.of(2030, 3, 1));
+        competition.setEndDate(LocalDate.of(2030, 3, 31));
+        return competition;
+    }
+
+    private static String write(String content) {
+        return new String(writeBytes(content), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] writeBytes(String content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter.line(out, content);
+        return out.toByteArray();
+    }
+
+    // CRLF 로 나눈 물리적 줄 (마지막 CRLF 뒤 빈 줄 제외)
+    private static List<byte[]> physicalLines(byte[] bytes) {
+        List<byte[]> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i + 1 < bytes.length; i++) {
+            if (bytes[i] == CRLF[0] && bytes[i + 1] == CRLF[1]) {
+                lines.add(Arrays.copyOfRange(bytes, start, i));
+                start = i + 2;
+                i++;
+            }
+        }
+        assertEquals(bytes.length, start, "output must end with CRLF");
+        return lines;
+    }
+
+    // RFC 5545 3.1: CRLF 다음의 공백 하나를 지워 원래 줄로 되돌림
+    private static String unfold(List<byte[]> lines) {
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (int i = 0; i < lines.size(); i++) {
+            byte[] line = lines.get(i);
+            int start = i == 0 ? 0 : 1;
+            joined.write(line, start, line.length - start);
+        }
+        return joined.toString(StandardCharsets.UTF_8);
+    }
+}
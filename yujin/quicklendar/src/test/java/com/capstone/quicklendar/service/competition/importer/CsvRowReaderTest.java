@@ -0,0 +1,75 @@
+package com.capstone.quicklendar.service.competition.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRowReaderTest {
+
+    @Test
+    void readsPlainRecordsWithLfAndCrlf() throws IOException {
+        CsvRowReader reader = reader("a,b,c\r\n1,,3\nx,y,z");
+        assertEquals(List.of("a", "b", "c"), reader.next());
+        assertEquals(List.of("1", "", "3"), reader.next());
+        assertEquals(List.of("x", "y", "z"), reader.next());
+        assertEquals(3, reader.getRecordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void skipsByteOrderMark() throws IOException {
+        CsvRowReader reader = reader("\uFEFFname,host\n");
+        assertEquals(List.of("name", "host"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void quotedFieldsKeepCommasAndEscapedQuotes() throws IOException {
+        CsvRowReader reader = reader("\"a,b\",\"say \"\"hi\"\"\",\"\"\n");
+        assertEquals(List.of("a,b", "say \"hi\"", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void quotedFieldsSpanLinesAndRecordLineIsWhereRecordStarts() throws IOException {
+        CsvRowReader reader = reader("name,description\n"
+                + "공모전,\"첫 줄\n둘째 줄\r\n셋째 줄\"\n"
+                + "다음,설명\n");
+        reader.next();
+        assertEquals(List.of("공모전", "첫 줄\n둘째 줄\r\n셋째 줄"), reader.next());
+        assertEquals(2, reader.getRecordLine());
+        assertEquals(List.of("다음", "설명"), reader.next());
+        assertEquals(5, reader.getRecordLine());
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() throws IOException {
+        CsvRowReader reader = reader("ab\"c,d\n");
+        assertEquals(List.of("ab\"c", "d"), reader.next());
+    }
+
+    @Test
+    void unclosedQuoteReportsLineWhereRecordStarted() throws IOException {
+        CsvRowReader reader = reader("a,b\n1,\"열린 따옴표\n계속\n");
+        reader.next();
+        CsvRowReader.CsvFormatException e = assertThrows(CsvRowReader.CsvFormatException.class, reader::next);
+        assertEquals(2, e.getLine());
+    }
+
+    @Test
+    void recordsLongerThanBufferAreReadWhole() throws IOException {
+        String longField = "가".repeat(20_000);
+        CsvRowReader reader = reader("\"" + longField + "\",end\n");
+        assertEquals(List.of(longField, "end"), reader.next());
+    }
+
+    private static CsvRowReader reader(String csv) {
+        return new CsvRowReader(new StringReader(csv));
+    }
+}
@@ -0,0 +1,139 @@
+package com.capstone.quicklendar.util.bitmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedBitmapTest {
+
+    // 컨테이너 하나가 배열 -> 비트맵으로 바뀌는 원소 수 (4096 개 배열과 비트맵은 크기가 같아 sizeInBytes 로는 구분 안 됨)
+    private static final int ARRAY_MAX = 4096;
+
+    @Test
+    void addRemoveContainsAcrossContainers() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.add(5));
+        assertTrue(bitmap.add(70_000));
+        assertTrue(bitmap.add(Integer.MAX_VALUE));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(70_001));
+        assertFalse(bitmap.contains(-1));
+        assertArrayEquals(new int[]{5, 70_000, Integer.MAX_VALUE}, bitmap.toArray());
+
+        assertTrue(bitmap.remove(70_000));
+        assertFalse(bitmap.remove(70_000));
+        assertFalse(bitmap.remove(-1));
+        assertArrayEquals(new int[]{5, Integer.MAX_VALUE}, bitmap.toArray());
+        bitmap.remove(5);
+        bitmap.remove(Integer.MAX_VALUE);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    void rejectsNegativeValues() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    void arrayContainerBecomesBitmapAboveLimitAndBackAtLimit() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        int base = 3 << 16;
+        for (int i = 0; i < ARRAY_MAX; i++) {
+            bitmap.add(base + i * 2);
+        }
+        // 4097 번째 원소에서 비트맵 컨테이너로 전환
+        bitmap.add(base + 1);
+        assertEquals(ARRAY_MAX + 1, bitmap.cardinality());
+        assertTrue(bitmap.contains(base + 1));
+        assertTrue(bitmap.contains(base + 2 * (ARRAY_MAX - 1)));
+        assertFalse(bitmap.contains(base + 3));
+
+        // 다시 4096 개가 되면 배열 컨테이너로 돌아가고 값은 그대로
+        assertTrue(bitmap.remove(base + 1));
+        assertFalse(bitmap.contains(base + 1));
+        assertEquals(ARRAY_MAX, bitmap.cardinality());
+        int[] values = bitmap.toArray();
+        for (int i = 0; i < ARRAY_MAX; i++) {
+            assertEquals(base + i * 2, values[i]);
+        }
+
+        // 전환 직후 배열 컨테이너에 다시 추가 (배열이 가득 찬 상태에서 늘어나야 함)
+        assertTrue(bitmap.add(base + 7));
+        assertEquals(ARRAY_MAX + 1, bitmap.cardinality());
+        assertTrue(bitmap.contains(base + 7));
+    }
+
+    @Test
+    void emptiedContainerIsRemovedAndNeighboursKept() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 1 << 16, (1 << 16) + 1, 2 << 16);
+        bitmap.remove(1 << 16);
+        bitmap.remove((1 << 16) + 1);
+        assertArrayEquals(new int[]{1, 2 << 16}, bitmap.toArray());
+        assertTrue(bitmap.add((1 << 16) + 5));
+        assertArrayEquals(new int[]{1, (1 << 16) + 5, 2 << 16}, bitmap.toArray());
+    }
+
+    @Test
+    void matchesReferenceSetUnderRandomOperations() {
+        Random random = new Random(42);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // 컨테이너 3개: 0 번은 빽빽하게, 1 번은 넓게, 5 번은 작게
+        // 앞 절반은 추가 위주(0 번 약 6300 개 -> 비트맵), 뒤 절반은 삭제 위주(약 2700 개 -> 다시 배열)
+        for (int step = 0; step < 200_000; step++) {
+            int value = switch (random.nextInt(4)) {
+                case 0, 1 -> random.nextInt(9000);
+                case 2 -> (1 << 16) + random.nextInt(1 << 16);
+                default -> (5 << 16) + random.nextInt(100);
+            };
+            if (random.nextInt(100) < (step < 100_000 ? 30 : 70)) {
+                assertEquals(expected.remove(value), bitmap.remove(value));
+            } else {
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+            if (step % 10_000 == 0) {
+                assertEquals(expected.size(), bitmap.cardinality());
+            }
+            if (step == 99_999) {
+                assertTrue(expected.headSet(1 << 16).size() > ARRAY_MAX);
+            }
+        }
+        assertTrue(expected.headSet(1 << 16).size() <= ARRAY_MAX);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), bitmap.toArray());
+        for (int value = 0; value < 9000; value++) {
+            assertEquals(expected.contains(value), bitmap.contains(value));
+        }
+    }
+
+    @Test
+    void andCardinalityForAllContainerPairs() {
+        CompressedBitmap dense = new CompressedBitmap();
+        CompressedBitmap sparse = new CompressedBitmap();
+        CompressedBitmap otherDense = new CompressedBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            dense.add(i);
+            otherDense.add(i * 2);
+        }
+        for (int i = 0; i < 1000; i++) {
+            sparse.add(i * 3);
+        }
+        sparse.add(1 << 20);
+
+        // 비트맵 x 배열, 배열 x 비트맵, 비트맵 x 비트맵, 배열 x 배열
+        assertEquals(1000, dense.andCardinality(sparse));
+        assertEquals(1000, sparse.andCardinality(dense));
+        assertEquals(5000, dense.andCardinality(otherDense));
+        assertEquals(sparse.cardinality(), sparse.andCardinality(sparse));
+        assertEquals(0, new CompressedBitmap().andCardinality(dense));
+    }
+}
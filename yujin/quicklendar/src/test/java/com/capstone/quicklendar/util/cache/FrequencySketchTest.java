@@ -0,0 +1,52 @@
+package com.capstone.quicklendar.util.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrequencySketchTest {
+
+    @Test
+    void countsIncrementsUpToMaximum() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        assertEquals(0, sketch.frequency("a"));
+        for (int i = 1; i <= 10; i++) {
+            sketch.increment("a");
+            assertEquals(i, sketch.frequency("a"));
+        }
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("a");
+        }
+        assertEquals(15, sketch.frequency("a"));
+    }
+
+    @Test
+    void neverUnderestimates() {
+        FrequencySketch sketch = new FrequencySketch(256);
+        for (int key = 0; key < 200; key++) {
+            for (int i = 0; i < key % 8; i++) {
+                sketch.increment(key);
+            }
+        }
+        for (int key = 0; key < 200; key++) {
+            assertTrue(sketch.frequency(key) >= key % 8, "key " + key);
+        }
+    }
+
+    @Test
+    void agesCountsAfterSampleSize() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("hot");
+        }
+        assertEquals(15, sketch.frequency("hot"));
+
+        // 카운터는 줄어들지 않으므로 15 아래로 내려갔다면 절반으로 줄이는 reset 이 일어난 것
+        int key = 0;
+        while (sketch.frequency("hot") == 15 && key < 100_000) {
+            sketch.increment(key++);
+        }
+        assertTrue(sketch.frequency("hot") <= 7, "frequency " + sketch.frequency("hot"));
+    }
+}
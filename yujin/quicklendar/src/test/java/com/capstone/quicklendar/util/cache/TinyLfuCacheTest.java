@@ -0,0 +1,269 @@
+package com.capstone.quicklendar.util.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void loadsOnceAndServesFromCache() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1, key -> {
+            loads.incrementAndGet();
+            return "v" + key;
+        }));
+        assertEquals("v1", cache.get(1, key -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void nullFromLoaderIsNotCached() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+
+        assertNull(cache.get(1, key -> null));
+        assertNull(cache.peek(1));
+    }
+
+    @Test
+    void evictsToStayWithinMaximumWeight() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 50, 100, String::length);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, "x".repeat(1 + i % 5));
+            assertTrue(weight(cache) <= 50);
+        }
+        assertTrue((long) cache.stats().get("evictions") > 0);
+    }
+
+    @Test
+    void frequentlyUsedEntrySurvivesScan() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        cache.put(-1, "hot");
+        for (int i = 0; i < 20; i++) {
+            cache.getIfPresent(-1);
+        }
+        // 한 번씩만 쓰이는 키가 잔뜩 들어와도 계속 읽히는 항목은 입장 정책 때문에 밀려나지 않아야 함
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(i, String::valueOf);
+            if (i % 50 == 0) {
+                assertEquals("hot", cache.getIfPresent(-1), "evicted after " + i + " one-off keys");
+            }
+        }
+        assertEquals("hot", cache.peek(-1));
+    }
+
+    @Test
+    void weightChangeOnUpdateIsAccounted() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 10, 100, String::length);
+        cache.put(1, "a");
+        cache.put(1, "aaaaa");
+        assertEquals(5L, weight(cache));
+        cache.computeIfPresent(1, value -> "aa");
+        assertEquals(2L, weight(cache));
+        assertEquals("aa", cache.peek(1));
+    }
+
+    @Test
+    void computeIfPresentIgnoresMissingKey() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 10, 100, String::length);
+        cache.computeIfPresent(1, value -> "never");
+        assertNull(cache.peek(1));
+    }
+
+    @Test
+    void invalidateIfRemovesMatchingEntriesOnly() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        cache.invalidateIf((key, value) -> key % 2 == 0);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i % 2 == 0, cache.peek(i) == null);
+        }
+        assertEquals(5L, weight(cache));
+    }
+
+    @Test
+    void valueLoadedBeforeInvalidationIsNotStored() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+
+        String loaded = cache.get(1, key -> {
+            // 로딩 중에 다른 스레드가 무효화한 상황
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.peek(1));
+        assertEquals("fresh", cache.get(1, key -> "fresh"));
+    }
+
+    @Test
+    void getAllDropsBatchLoadedAcrossInvalidation() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        cache.put(1, "cached");
+
+        Map<Integer, String> result = cache.getAll(List.of(1, 2, 3), missing -> {
+            cache.invalidateIf((key, value) -> true);
+            return missing.stream().collect(Collectors.toMap(key -> key, key -> "stale" + key));
+        });
+
+        assertEquals(List.of(1, 2, 3), List.copyOf(result.keySet()));
+        assertEquals("cached", result.get(1));
+        assertNull(cache.peek(2));
+        assertNull(cache.peek(3));
+    }
+
+    @Test
+    void putAllIfUnchangedRejectsStaleGeneration() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        long generation = cache.currentGeneration();
+        cache.computeIfPresent(1, value -> value);
+
+        // 로딩 중에 무효화된 키만 버리고 나머지는 저장
+        cache.putAllIfUnchanged(Map.of(1, "stale", 2, "kept"), generation);
+        assertNull(cache.peek(1));
+        assertEquals("kept", cache.peek(2));
+
+        cache.putAllIfUnchanged(Map.of(1, "fresh"), cache.currentGeneration());
+        assertEquals("fresh", cache.peek(1));
+    }
+
+    @Test
+    void concurrentLoadRacingInvalidationIsNotStored() throws Exception {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> loader = executor.submit(() -> cache.get(1, key -> {
+                loading.countDown();
+                await(invalidated);
+                return "stale";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            cache.invalidate(1);
+            invalidated.countDown();
+
+            assertEquals("stale", loader.get(5, TimeUnit.SECONDS));
+            assertNull(cache.peek(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidatingAnotherKeyKeepsConcurrentLoad() throws Exception {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        cache.put(2, "b");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> loader = executor.submit(() -> cache.get(1, key -> {
+                loading.countDown();
+                await(invalidated);
+                return "a";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            cache.invalidate(2);
+            cache.computeIfPresent(3, value -> value);
+            invalidated.countDown();
+
+            assertEquals("a", loader.get(5, TimeUnit.SECONDS));
+            assertEquals("a", cache.peek(1));
+            assertNull(cache.peek(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void tooManyInvalidationsDuringLoadDropsIt() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 100, 100, value -> 1);
+        long generation = cache.currentGeneration();
+        // 키별 기록을 넘칠 만큼 무효화하면 어떤 키가 무효화됐는지 알 수 없으므로 버림
+        for (int key = 1000; key < 3000; key++) {
+            cache.invalidate(key);
+        }
+
+        cache.putAllIfUnchanged(Map.of(1, "unknown"), generation);
+        assertNull(cache.peek(1));
+
+        cache.putAllIfUnchanged(Map.of(1, "fresh"), cache.currentGeneration());
+        assertEquals("fresh", cache.peek(1));
+    }
+
+    @Test
+    void concurrentAccessKeepsWeightBounded() throws Exception {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>("test", 64, 256, String::length);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = random.nextInt(500);
+                        switch (random.nextInt(4)) {
+                            case 0 -> cache.put(key, "x".repeat(1 + key % 4));
+                            case 1 -> cache.invalidate(key);
+                            default -> assertNotNull(cache.get(key, k -> "y".repeat(1 + k % 4)));
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long weight = weight(cache);
+        assertTrue(weight <= 64, "weight " + weight);
+        assertEquals(cache.stats().get("size"), countEntries(cache, 500));
+    }
+
+    private static long weight(TinyLfuCache<?, ?> cache) {
+        return (long) cache.stats().get("weight");
+    }
+
+    private static int countEntries(TinyLfuCache<Integer, String> cache, int keySpace) {
+        int count = 0;
+        for (int key = 0; key < keySpace; key++) {
+            if (cache.peek(key) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.capstone.quicklendar.util.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    // 틱 10ms, 4칸(2비트), 3단계 -> 0단계 4틱, 1단계 16틱, 2단계 64틱, 그 뒤는 overflow
+    private static final long TICK = 10;
+
+    @Test
+    void expiresAtDeadlineTickNotBefore() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 0);
+        wheel.schedule("a", 25);
+        assertEquals(List.of(), wheel.advance(29));
+        assertEquals(List.of("a"), wheel.advance(30));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 1000);
+        wheel.schedule("late", 0);
+        assertEquals(List.of(), wheel.advance(1009));
+        assertEquals(List.of("late"), wheel.advance(1010));
+    }
+
+    @Test
+    void cascadesAtEveryLevelBoundaryAndFromOverflow() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 0);
+        // 각 단계 경계 바로 앞/위/뒤 (4, 16, 64 틱) 와 overflow 범위
+        long[] ticks = {1, 3, 4, 5, 15, 16, 17, 20, 63, 64, 65, 80, 127, 128, 129, 200, 1000};
+        for (long tick : ticks) {
+            wheel.schedule(tick, tick * TICK);
+        }
+        for (long tick = 1; tick <= 1000; tick++) {
+            List<Long> expired = wheel.advance(tick * TICK);
+            if (contains(ticks, tick)) {
+                assertEquals(List.of(tick), expired, "tick " + tick);
+            } else {
+                assertEquals(List.of(), expired, "tick " + tick);
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void scheduleAfterAdvancingCascadesRelativeToCurrentTick() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 0);
+        wheel.advance(62 * TICK);
+        // 현재 틱 62 에서 2단계 경계(64)를 넘는 타이머
+        wheel.schedule(66L, 66 * TICK);
+        wheel.schedule(64L, 64 * TICK);
+        assertEquals(List.of(), wheel.advance(63 * TICK));
+        assertEquals(List.of(64L), wheel.advance(65 * TICK));
+        assertEquals(List.of(66L), wheel.advance(66 * TICK));
+    }
+
+    @Test
+    void cancelRemovesTimerFromAnyLevel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 0);
+        HierarchicalTimingWheel.Timeout<String> low = wheel.schedule("low", 2 * TICK);
+        HierarchicalTimingWheel.Timeout<String> mid = wheel.schedule("mid", 20 * TICK);
+        HierarchicalTimingWheel.Timeout<String> high = wheel.schedule("high", 70 * TICK);
+        HierarchicalTimingWheel.Timeout<String> overflow = wheel.schedule("overflow", 500 * TICK);
+        wheel.schedule("kept", 20 * TICK);
+        assertEquals(5, wheel.size());
+
+        assertTrue(wheel.cancel(low));
+        assertTrue(wheel.cancel(mid));
+        assertTrue(wheel.cancel(high));
+        assertTrue(wheel.cancel(overflow));
+        assertFalse(wheel.cancel(mid));
+        assertEquals(1, wheel.size());
+
+        List<String> expired = wheel.advance(1000 * TICK);
+        assertEquals(List.of("kept"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelAfterCascadeAndAfterExpiry() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 0);
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("t", 18 * TICK);
+        HierarchicalTimingWheel.Timeout<String> expiring = wheel.schedule("e", 3 * TICK);
+        // 16 틱에서 1단계 -> 0단계로 옮겨진 뒤 취소
+        assertEquals(List.of("e"), wheel.advance(16 * TICK));
+        assertFalse(wheel.cancel(expiring));
+        assertTrue(wheel.cancel(timeout));
+        assertEquals(List.of(), wheel.advance(100 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void matchesReferenceUnderRandomScheduleAndCancel() {
+        Random random = new Random(7);
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK, 2, 3, 0);
+        Map<Integer, Long> expectedTick = new HashMap<>();
+        Map<Integer, HierarchicalTimingWheel.Timeout<Integer>> timeouts = new HashMap<>();
+        int next = 0;
+        for (long tick = 1; tick <= 3000; tick++) {
+            for (int i = 0; i < 3; i++) {
+                long deadlineMillis = (tick - 1) * TICK + random.nextInt(300 * (int) TICK);
+                int id = next++;
+                timeouts.put(id, wheel.schedule(id, deadlineMillis));
+                // 올림한 틱, 최소 다음 틱
+                expectedTick.put(id, Math.max(tick, (deadlineMillis + TICK - 1) / TICK));
+            }
+            if (!timeouts.isEmpty() && random.nextInt(4) == 0) {
+                Integer victim = new ArrayList<>(timeouts.keySet()).get(random.nextInt(timeouts.size()));
+                assertTrue(wheel.cancel(timeouts.remove(victim)));
+                expectedTick.remove(victim);
+            }
+
+            for (Integer id : wheel.advance(tick * TICK)) {
+                assertEquals(expectedTick.remove(id), tick, "timer " + id);
+                timeouts.remove(id);
+            }
+            for (Map.Entry<Integer, Long> entry : expectedTick.entrySet()) {
+                assertTrue(entry.getValue() > tick, "timer " + entry.getKey() + " missed tick " + entry.getValue());
+            }
+            assertEquals(expectedTick.size(), wheel.size());
+        }
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}